@@ -2,8 +2,12 @@ package nextstep.subway.applicaion.command;
 
 import nextstep.subway.applicaion.dto.*;
 import nextstep.subway.applicaion.query.LineQueryService;
+import nextstep.subway.applicaion.query.ShortestPathCheckerCache;
 import nextstep.subway.domain.Line;
 import nextstep.subway.domain.LineRepository;
+import nextstep.subway.domain.Section;
+import nextstep.subway.domain.SectionBatchRepository;
+import nextstep.subway.domain.SectionChanges;
 import nextstep.subway.domain.Station;
 import nextstep.subway.domain.StationRepository;
 import nextstep.subway.exception.line.DuplicateLineException;
@@ -11,6 +15,14 @@ import nextstep.subway.exception.station.StationNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
+
 @Service
 @Transactional
 public class LineCommandService {
@@ -18,13 +30,19 @@ public class LineCommandService {
     private final LineRepository lineRepository;
     private final LineQueryService lineQueryService;
     private final StationRepository stationRepository;
+    private final ShortestPathCheckerCache shortestPathCheckerCache;
+    private final SectionBatchRepository sectionBatchRepository;
 
     public LineCommandService(LineRepository lineRepository,
                               LineQueryService lineQueryService,
-                              StationRepository stationRepository) {
+                              StationRepository stationRepository,
+                              ShortestPathCheckerCache shortestPathCheckerCache,
+                              SectionBatchRepository sectionBatchRepository) {
         this.lineRepository = lineRepository;
         this.lineQueryService = lineQueryService;
         this.stationRepository = stationRepository;
+        this.shortestPathCheckerCache = shortestPathCheckerCache;
+        this.sectionBatchRepository = sectionBatchRepository;
     }
 
     public LineResponse saveLine(LineRequest request) {
@@ -37,6 +55,7 @@ public class LineCommandService {
 
         Line line = lineRepository.save(
                 Line.of(request.getName(), request.getColor(), upStation, downStation, request.getDistance()));
+        shortestPathCheckerCache.apply(SectionChanges.added(line.getAllSection()));
 
         return new LineResponse(
                 line.getId(),
@@ -52,24 +71,68 @@ public class LineCommandService {
         Station upStation = findStationsById(request.getUpStationId());
         Station downStation = findStationsById(request.getDownStationId());
 
-        line.addSection(upStation, downStation, request.getDistance());
+        SectionChanges changes = line.addSection(upStation, downStation, request.getDistance());
+        shortestPathCheckerCache.apply(changes);
 
         return lineQueryService.createShowLineResponse(line);
     }
 
+    /**
+     * 하행 종점 뒤에 여러 구간을 이어 붙인다. 역은 IN 쿼리 한 번으로 읽고, 구간은 JDBC 배치로 넣는다.
+     */
+    public SectionBulkResponse addSections(long lineId, SectionBulkRequest request) {
+        Line line = lineQueryService.findLineById(lineId);
+        Map<Long, Station> stations = findStationsByIds(request);
+
+        List<Section> sections = request.getSections()
+                .stream()
+                .map(it -> Section.of(line, findStation(stations, it.getUpStationId()),
+                        findStation(stations, it.getDownStationId()), it.getDistance()))
+                .collect(toList());
+        line.prepareAppend(sections);
+        sectionBatchRepository.appendAll(line, sections);
+        shortestPathCheckerCache.apply(SectionChanges.added(sections));
+
+        return SectionBulkResponse.of(lineId, sections);
+    }
+
     public void deleteSection(long lineId, long stationId) {
         Line line = lineQueryService.findLineById(lineId);
         Station deleteStation = findStationsById(stationId);
-        line.deleteStation(deleteStation);
+        SectionChanges changes = line.deleteStation(deleteStation);
+        shortestPathCheckerCache.apply(changes);
     }
 
     public void updateLine(long id, UpdateLineRequest request) {
         Line line = lineQueryService.findLineById(id);
         line.update(request.getName(), request.getColor());
+        // 환승 경로 응답은 그래프를 만들 때 읽은 노선 이름을 쓰므로 다시 만들게 한다.
+        shortestPathCheckerCache.invalidate();
+    }
+
+    public void updateTimetable(long id, TimetableRequest request) {
+        Line line = lineQueryService.findLineById(id);
+        line.updateTimetable(request.toTimetable());
+        shortestPathCheckerCache.invalidate();
     }
 
     public void deleteLine(long id) {
         lineRepository.deleteById(id);
+        shortestPathCheckerCache.invalidate();
+    }
+
+    private Map<Long, Station> findStationsByIds(SectionBulkRequest request) {
+        return stationRepository.findAllById(request.stationIds())
+                .stream()
+                .collect(toMap(Station::getId, Function.identity()));
+    }
+
+    private Station findStation(Map<Long, Station> stations, Long id) {
+        Station station = stations.get(id);
+        if (Objects.isNull(station)) {
+            throw new StationNotFoundException(id);
+        }
+        return station;
     }
 
     private Station findStationsById(long id) {
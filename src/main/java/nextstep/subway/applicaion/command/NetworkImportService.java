@@ -0,0 +1,274 @@
+package nextstep.subway.applicaion.command;
+
+import nextstep.subway.applicaion.dto.NetworkImportResponse;
+import nextstep.subway.applicaion.query.ShortestPathCheckerCache;
+import nextstep.subway.domain.LineImport;
+import nextstep.subway.domain.NetworkBatchRepository;
+import nextstep.subway.exception.line.DuplicateLineException;
+import nextstep.subway.exception.network.InvalidImportRowException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+
+/**
+ * 역 파일과 구간 파일을 한 줄씩 읽어 노선도 전체를 넣는다.
+ * 두 파일을 모두 읽고 검증한 뒤에 쓰기 시작하므로 파일이 잘못되었으면 아무것도 넣지 않는다.
+ * 쓰기는 CHUNK_SIZE 행마다 커밋해 트랜잭션 하나가 너무 커지지 않게 한다. 그래서 가져오는 동안에는
+ * 다른 요청이 일부만 들어간 노선도를 볼 수 있다.
+ * 쓰는 중에 DB 오류가 나거나 다른 요청이 같은 이름의 역, 노선을 먼저 넣으면 이번에 커밋한 노선과 구간,
+ * 이번에 넣은 역 중 쓰이지 않는 역을 지우고 실패한다. 이 정리마저 실패하면 남은 노선 이름을 로그로 남기며,
+ * 그 노선들을 지워야 같은 파일을 다시 가져올 수 있다.
+ *
+ * <pre>
+ * stations: name
+ * sections: line,color,up_station,down_station,distance
+ * </pre>
+ * 두 파일 모두 첫 줄은 머리글로 보고 건너뛰며, 따옴표로 감싼 값은 지원하지 않는다.
+ */
+@Service
+public class NetworkImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(NetworkImportService.class);
+
+    private static final String STATIONS_FILE = "stations";
+    private static final String SECTIONS_FILE = "sections";
+    private static final String DELIMITER = ",";
+    private static final int STATION_COLUMNS = 1;
+    private static final int SECTION_COLUMNS = 5;
+    private static final int MIN_DISTANCE = 1;
+    private static final int CHUNK_SIZE = 1000;
+
+    private final NetworkBatchRepository networkBatchRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ShortestPathCheckerCache shortestPathCheckerCache;
+
+    public NetworkImportService(NetworkBatchRepository networkBatchRepository,
+                                TransactionTemplate transactionTemplate,
+                                ShortestPathCheckerCache shortestPathCheckerCache) {
+        this.networkBatchRepository = networkBatchRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.shortestPathCheckerCache = shortestPathCheckerCache;
+    }
+
+    public NetworkImportResponse importNetwork(InputStream stationsFile, InputStream sectionsFile) {
+        long startTime = System.nanoTime();
+        HeapHighWater heapHighWater = new HeapHighWater();
+
+        Map<String, Long> stationIds = networkBatchRepository.findStationIds();
+        Set<String> lineNames = networkBatchRepository.findLineIds().keySet();
+        Set<String> newStations = new LinkedHashSet<>();
+        long rows = readRows(stationsFile, STATIONS_FILE, STATION_COLUMNS, heapHighWater, (columns, rowNumber) -> {
+            if (!stationIds.containsKey(columns[0])) {
+                newStations.add(columns[0]);
+            }
+        });
+
+        Map<String, LineImport> lines = new LinkedHashMap<>();
+        rows += readRows(sectionsFile, SECTIONS_FILE, SECTION_COLUMNS, heapHighWater, (columns, rowNumber) -> {
+            if (lineNames.contains(columns[0])) {
+                throw new DuplicateLineException(columns[0]);
+            }
+            String upStation = knownStation(columns[2], stationIds, newStations, rowNumber);
+            String downStation = knownStation(columns[3], stationIds, newStations, rowNumber);
+            if (upStation.equals(downStation)) {
+                throw new InvalidImportRowException(SECTIONS_FILE, rowNumber, "상행역과 하행역이 같습니다.");
+            }
+            lineOf(lines, columns[0], columns[1], rowNumber)
+                    .addSection(upStation, downStation, distance(columns[4], rowNumber));
+        });
+        lines.values().forEach(LineImport::orderSections);
+
+        List<LineImport> lineImports = new ArrayList<>(lines.values());
+        insert(new ArrayList<>(newStations), lineImports, heapHighWater);
+
+        int sectionCount = lineImports.stream().mapToInt(LineImport::size).sum();
+        NetworkImportResponse response = NetworkImportResponse.of(newStations.size(), lineImports.size(),
+                sectionCount, rows, System.nanoTime() - startTime, heapHighWater.sample());
+        log.info("network imported: {} rows in {} ms ({} rows/s), heap high-water {} bytes",
+                response.getRows(), response.getElapsedMillis(), response.getRowsPerSecond(),
+                response.getHeapHighWaterBytes());
+        return response;
+    }
+
+    private void insert(List<String> stations, List<LineImport> lines, HeapHighWater heapHighWater) {
+        List<String> insertedStations = new ArrayList<>();
+        List<String> insertedLines = new ArrayList<>();
+        try {
+            insertInChunks(stations, station -> 1, heapHighWater, chunk -> {
+                networkBatchRepository.insertStations(chunk);
+                insertedStations.addAll(chunk);
+            });
+            insertInChunks(lines, line -> 1, heapHighWater, chunk -> {
+                networkBatchRepository.insertLines(chunk);
+                chunk.forEach(line -> insertedLines.add(line.getName()));
+            });
+            Map<String, Long> savedStationIds = networkBatchRepository.findStationIds();
+            Map<String, Long> savedLineIds = networkBatchRepository.findLineIds();
+            insertInChunks(lines, LineImport::size, heapHighWater,
+                    chunk -> networkBatchRepository.insertSections(chunk, savedLineIds, savedStationIds));
+        } catch (RuntimeException e) {
+            deleteInserted(insertedStations, insertedLines, e);
+            throw e;
+        } finally {
+            shortestPathCheckerCache.invalidate();
+        }
+    }
+
+    /**
+     * 이미 커밋한 청크를 지워 실패한 가져오기가 일부만 남지 않게 한다.
+     */
+    private void deleteInserted(List<String> insertedStations, List<String> insertedLines, RuntimeException cause) {
+        if (insertedStations.isEmpty() && insertedLines.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                networkBatchRepository.deleteLines(insertedLines);
+                networkBatchRepository.deleteUnusedStations(insertedStations);
+            });
+            log.warn("network import failed, removed {} lines and {} stations inserted so far",
+                    insertedLines.size(), insertedStations.size(), cause);
+        } catch (RuntimeException e) {
+            cause.addSuppressed(e);
+            log.error("network import failed and could not remove partially imported lines {}", insertedLines, e);
+        }
+    }
+
+    private long readRows(InputStream file, String fileName, int columnCount, HeapHighWater heapHighWater,
+                          RowHandler handler) {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(file, StandardCharsets.UTF_8))) {
+            long rows = 0;
+            int rowNumber = 1;
+            reader.readLine();
+            for (String row = reader.readLine(); row != null; row = reader.readLine()) {
+                rowNumber++;
+                if (row.trim().isEmpty()) {
+                    continue;
+                }
+
+                handler.handle(columns(row, fileName, columnCount, rowNumber), rowNumber);
+                if (++rows % CHUNK_SIZE == 0) {
+                    heapHighWater.sample();
+                }
+            }
+            return rows;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String[] columns(String row, String fileName, int columnCount, int rowNumber) {
+        String[] columns = row.split(DELIMITER, -1);
+        if (columns.length != columnCount) {
+            throw new InvalidImportRowException(fileName, rowNumber, "열이 " + columnCount + "개여야 합니다.");
+        }
+
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = columns[i].trim();
+            if (columns[i].isEmpty()) {
+                throw new InvalidImportRowException(fileName, rowNumber, "비어 있는 열이 있습니다.");
+            }
+        }
+        return columns;
+    }
+
+    private LineImport lineOf(Map<String, LineImport> lines, String name, String color, int rowNumber) {
+        LineImport line = lines.computeIfAbsent(name, it -> LineImport.of(it, color));
+        if (!line.getColor().equals(color)) {
+            throw new InvalidImportRowException(SECTIONS_FILE, rowNumber,
+                    "같은 노선의 색이 앞의 행과 다릅니다. " + line.getColor() + ", " + color);
+        }
+        return line;
+    }
+
+    private String knownStation(String name, Map<String, Long> stationIds, Set<String> newStations, int rowNumber) {
+        if (!stationIds.containsKey(name) && !newStations.contains(name)) {
+            throw new InvalidImportRowException(SECTIONS_FILE, rowNumber, "등록되지 않은 역입니다. " + name);
+        }
+        return name;
+    }
+
+    private int distance(String value, int rowNumber) {
+        try {
+            int distance = Integer.parseInt(value);
+            if (distance >= MIN_DISTANCE) {
+                return distance;
+            }
+        } catch (NumberFormatException ignored) {
+            // 아래에서 행 오류로 알린다.
+        }
+        throw new InvalidImportRowException(SECTIONS_FILE, rowNumber, "거리는 " + MIN_DISTANCE + " 이상의 정수여야 합니다.");
+    }
+
+    /**
+     * 각 항목이 차지하는 행 수를 더해 CHUNK_SIZE를 넘길 때마다 모은 항목을 한 트랜잭션으로 넣는다.
+     */
+    private <T> void insertInChunks(List<T> items, ToIntFunction<T> rowCount, HeapHighWater heapHighWater,
+                                    Consumer<List<T>> insert) {
+        List<T> chunk = new ArrayList<>();
+        int chunkRows = 0;
+        for (T item : items) {
+            chunk.add(item);
+            chunkRows += rowCount.applyAsInt(item);
+            if (chunkRows >= CHUNK_SIZE) {
+                commit(chunk, insert);
+                heapHighWater.sample();
+                chunk = new ArrayList<>();
+                chunkRows = 0;
+            }
+        }
+        if (!chunk.isEmpty()) {
+            commit(chunk, insert);
+        }
+    }
+
+    private <T> void commit(List<T> chunk, Consumer<List<T>> insert) {
+        transactionTemplate.executeWithoutResult(status -> insert.accept(chunk));
+    }
+
+    private interface RowHandler {
+
+        void handle(String[] columns, int rowNumber);
+
+    }
+
+    /**
+     * 메모리 풀의 최고 사용량은 JVM 전체가 함께 쓰는 값이라 지우지 않고, 청크마다 힙 사용량을 재어 가장 큰 값을 남긴다.
+     * 잰 시점 사이의 최고치는 놓칠 수 있으므로 근삿값이다.
+     */
+    private static class HeapHighWater {
+
+        private final MemoryMXBean memoryMXBean = ManagementFactory.getMemoryMXBean();
+        private long highWater;
+
+        private HeapHighWater() {
+            sample();
+        }
+
+        private long sample() {
+            highWater = Math.max(highWater, memoryMXBean.getHeapMemoryUsage().getUsed());
+            return highWater;
+        }
+
+    }
+
+}
@@ -2,6 +2,7 @@ package nextstep.subway.applicaion.command;
 
 import nextstep.subway.applicaion.dto.StationRequest;
 import nextstep.subway.applicaion.dto.StationResponse;
+import nextstep.subway.applicaion.query.ShortestPathCheckerCache;
 import nextstep.subway.applicaion.query.StationQueryService;
 import nextstep.subway.domain.Station;
 import nextstep.subway.domain.StationRepository;
@@ -15,11 +16,14 @@ public class StationCommandService {
 
     private final StationRepository stationRepository;
     private final StationQueryService stationQueryService;
+    private final ShortestPathCheckerCache shortestPathCheckerCache;
 
     public StationCommandService(StationRepository stationRepository,
-                                 StationQueryService stationQueryService) {
+                                 StationQueryService stationQueryService,
+                                 ShortestPathCheckerCache shortestPathCheckerCache) {
         this.stationRepository = stationRepository;
         this.stationQueryService = stationQueryService;
+        this.shortestPathCheckerCache = shortestPathCheckerCache;
     }
 
     public StationResponse saveStation(StationRequest stationRequest) {
@@ -34,6 +38,7 @@ public class StationCommandService {
 
     public void deleteStationById(Long id) {
         stationRepository.deleteById(id);
+        shortestPathCheckerCache.invalidate();
     }
 
 }
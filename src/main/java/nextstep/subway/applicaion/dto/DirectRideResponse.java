@@ -0,0 +1,44 @@
+package nextstep.subway.applicaion.dto;
+
+import nextstep.subway.applicaion.dto.PathResponse.StationResponse;
+import nextstep.subway.domain.TransferPath;
+
+import java.util.List;
+
+public class DirectRideResponse {
+
+    private Long lineId;
+    private String lineName;
+    private List<StationResponse> stations;
+    private int distance;
+
+    private DirectRideResponse() {
+    }
+
+    public static DirectRideResponse of(TransferPath.Leg ride) {
+        DirectRideResponse response = new DirectRideResponse();
+        response.lineId = ride.getLine().getId();
+        response.lineName = ride.getLine().getName();
+        response.stations = PathResponse.of(ride.getStations()).getStations();
+        response.distance = ride.getDistance();
+
+        return response;
+    }
+
+    public Long getLineId() {
+        return lineId;
+    }
+
+    public String getLineName() {
+        return lineName;
+    }
+
+    public List<StationResponse> getStations() {
+        return stations;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+
+}
@@ -0,0 +1,35 @@
+package nextstep.subway.applicaion.dto;
+
+import nextstep.subway.domain.Station;
+
+public class DistanceResponse {
+
+    private Long source;
+    private Long target;
+    private int distance;
+
+    private DistanceResponse() {
+    }
+
+    public static DistanceResponse of(Station source, Station target, int distance) {
+        DistanceResponse response = new DistanceResponse();
+        response.source = source.getId();
+        response.target = target.getId();
+        response.distance = distance;
+
+        return response;
+    }
+
+    public Long getSource() {
+        return source;
+    }
+
+    public Long getTarget() {
+        return target;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+
+}
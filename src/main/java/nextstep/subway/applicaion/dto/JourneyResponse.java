@@ -0,0 +1,99 @@
+package nextstep.subway.applicaion.dto;
+
+import nextstep.subway.applicaion.dto.PathResponse.StationResponse;
+import nextstep.subway.domain.Journey;
+
+import java.time.LocalTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class JourneyResponse {
+
+    private LocalTime departureTime;
+    private LocalTime arrivalTime;
+    private int transferCount;
+    private List<StationResponse> stations;
+    private List<LegResponse> legs;
+
+    private JourneyResponse() {
+    }
+
+    public static JourneyResponse of(Journey journey) {
+        JourneyResponse response = new JourneyResponse();
+        response.departureTime = journey.getDepartureTime();
+        response.arrivalTime = journey.getArrivalTime();
+        response.transferCount = journey.getTransferCount();
+        response.stations = PathResponse.of(journey.getStations()).getStations();
+        response.legs = journey.getLegs()
+                .stream()
+                .map(LegResponse::of)
+                .collect(Collectors.toList());
+
+        return response;
+    }
+
+    public LocalTime getDepartureTime() {
+        return departureTime;
+    }
+
+    public LocalTime getArrivalTime() {
+        return arrivalTime;
+    }
+
+    public int getTransferCount() {
+        return transferCount;
+    }
+
+    public List<StationResponse> getStations() {
+        return stations;
+    }
+
+    public List<LegResponse> getLegs() {
+        return legs;
+    }
+
+    public static class LegResponse {
+
+        private Long lineId;
+        private String lineName;
+        private List<StationResponse> stations;
+        private LocalTime departureTime;
+        private LocalTime arrivalTime;
+
+        private LegResponse() {
+        }
+
+        private static LegResponse of(Journey.Leg leg) {
+            LegResponse response = new LegResponse();
+            response.lineId = leg.getLine().getId();
+            response.lineName = leg.getLine().getName();
+            response.stations = PathResponse.of(leg.getStations()).getStations();
+            response.departureTime = leg.getDepartureTime();
+            response.arrivalTime = leg.getArrivalTime();
+
+            return response;
+        }
+
+        public Long getLineId() {
+            return lineId;
+        }
+
+        public String getLineName() {
+            return lineName;
+        }
+
+        public List<StationResponse> getStations() {
+            return stations;
+        }
+
+        public LocalTime getDepartureTime() {
+            return departureTime;
+        }
+
+        public LocalTime getArrivalTime() {
+            return arrivalTime;
+        }
+
+    }
+
+}
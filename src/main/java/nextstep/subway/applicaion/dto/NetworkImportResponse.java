@@ -0,0 +1,58 @@
+package nextstep.subway.applicaion.dto;
+
+public class NetworkImportResponse {
+
+    private int stations;
+    private int lines;
+    private int sections;
+    private long rows;
+    private long elapsedMillis;
+    private long rowsPerSecond;
+    private long heapHighWaterBytes;
+
+    private NetworkImportResponse() {
+    }
+
+    public static NetworkImportResponse of(int stations, int lines, int sections, long rows, long elapsedNanos,
+                                           long heapHighWaterBytes) {
+        NetworkImportResponse response = new NetworkImportResponse();
+        response.stations = stations;
+        response.lines = lines;
+        response.sections = sections;
+        response.rows = rows;
+        response.elapsedMillis = elapsedNanos / 1_000_000;
+        response.rowsPerSecond = elapsedNanos == 0 ? rows : rows * 1_000_000_000L / elapsedNanos;
+        response.heapHighWaterBytes = heapHighWaterBytes;
+
+        return response;
+    }
+
+    public int getStations() {
+        return stations;
+    }
+
+    public int getLines() {
+        return lines;
+    }
+
+    public int getSections() {
+        return sections;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public long getRowsPerSecond() {
+        return rowsPerSecond;
+    }
+
+    public long getHeapHighWaterBytes() {
+        return heapHighWaterBytes;
+    }
+
+}
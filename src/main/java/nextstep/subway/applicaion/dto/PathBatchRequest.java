@@ -0,0 +1,24 @@
+package nextstep.subway.applicaion.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class PathBatchRequest {
+
+    private List<PathRequest> paths = new ArrayList<>();
+
+    private PathBatchRequest() {
+    }
+
+    public static PathBatchRequest of(List<PathRequest> paths) {
+        PathBatchRequest request = new PathBatchRequest();
+        request.paths = paths;
+
+        return request;
+    }
+
+    public List<PathRequest> getPaths() {
+        return paths;
+    }
+
+}
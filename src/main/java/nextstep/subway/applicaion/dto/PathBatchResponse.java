@@ -0,0 +1,69 @@
+package nextstep.subway.applicaion.dto;
+
+import java.util.List;
+
+public class PathBatchResponse {
+
+    private List<PathResult> paths;
+
+    private PathBatchResponse() {
+    }
+
+    public static PathBatchResponse of(List<PathResult> paths) {
+        PathBatchResponse response = new PathBatchResponse();
+        response.paths = paths;
+
+        return response;
+    }
+
+    public List<PathResult> getPaths() {
+        return paths;
+    }
+
+    public static class PathResult {
+
+        private Long source;
+        private Long target;
+        private List<PathResponse.StationResponse> stations;
+        private String error;
+
+        private PathResult() {
+        }
+
+        public static PathResult success(Long source, Long target, PathResponse path) {
+            PathResult result = new PathResult();
+            result.source = source;
+            result.target = target;
+            result.stations = path.getStations();
+
+            return result;
+        }
+
+        public static PathResult failure(Long source, Long target, String error) {
+            PathResult result = new PathResult();
+            result.source = source;
+            result.target = target;
+            result.error = error;
+
+            return result;
+        }
+
+        public Long getSource() {
+            return source;
+        }
+
+        public Long getTarget() {
+            return target;
+        }
+
+        public List<PathResponse.StationResponse> getStations() {
+            return stations;
+        }
+
+        public String getError() {
+            return error;
+        }
+
+    }
+
+}
@@ -0,0 +1,27 @@
+package nextstep.subway.applicaion.dto;
+
+public class PathRequest {
+
+    private Long source;
+    private Long target;
+
+    private PathRequest() {
+    }
+
+    public static PathRequest of(long source, long target) {
+        PathRequest request = new PathRequest();
+        request.source = source;
+        request.target = target;
+
+        return request;
+    }
+
+    public Long getSource() {
+        return source;
+    }
+
+    public Long getTarget() {
+        return target;
+    }
+
+}
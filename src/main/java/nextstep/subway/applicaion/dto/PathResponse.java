@@ -3,8 +3,8 @@ package nextstep.subway.applicaion.dto;
 import nextstep.subway.domain.Station;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 public class PathResponse {
 
@@ -16,9 +16,10 @@ public class PathResponse {
 
     public static PathResponse of(List<Station> stations) {
         PathResponse response = new PathResponse();
-        response.stations = stations.stream()
-                .map(StationResponse::of)
-                .collect(Collectors.toList());
+        response.stations = new ArrayList<>(stations.size());
+        for (Station station : stations) {
+            response.stations.add(StationResponse.of(station));
+        }
 
         return response;
     }
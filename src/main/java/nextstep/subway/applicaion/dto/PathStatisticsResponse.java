@@ -0,0 +1,66 @@
+package nextstep.subway.applicaion.dto;
+
+import nextstep.subway.domain.ComponentIndex;
+import nextstep.subway.domain.PathEngine;
+
+import java.util.List;
+import java.util.Map;
+
+public class PathStatisticsResponse {
+
+    private String engine;
+    private Map<String, Long> statistics;
+    private int componentCount;
+    private List<Integer> componentSizes;
+    private Map<String, Long> hubLabels;
+    private Map<String, Long> resultCache;
+    private Map<String, Map<String, Long>> coalescing;
+
+    private PathStatisticsResponse() {
+    }
+
+    public static PathStatisticsResponse of(PathEngine engine, Map<String, Long> statistics,
+                                            ComponentIndex componentIndex, Map<String, Long> hubLabels,
+                                            Map<String, Long> resultCache,
+                                            Map<String, Map<String, Long>> coalescing) {
+        PathStatisticsResponse response = new PathStatisticsResponse();
+        response.engine = engine.name();
+        response.statistics = statistics;
+        response.componentCount = componentIndex.getComponentCount();
+        response.componentSizes = componentIndex.getComponentSizes();
+        response.hubLabels = hubLabels;
+        response.resultCache = resultCache;
+        response.coalescing = coalescing;
+
+        return response;
+    }
+
+    public String getEngine() {
+        return engine;
+    }
+
+    public Map<String, Long> getStatistics() {
+        return statistics;
+    }
+
+    public int getComponentCount() {
+        return componentCount;
+    }
+
+    public List<Integer> getComponentSizes() {
+        return componentSizes;
+    }
+
+    public Map<String, Long> getHubLabels() {
+        return hubLabels;
+    }
+
+    public Map<String, Long> getResultCache() {
+        return resultCache;
+    }
+
+    public Map<String, Map<String, Long>> getCoalescing() {
+        return coalescing;
+    }
+
+}
@@ -0,0 +1,28 @@
+package nextstep.subway.applicaion.dto;
+
+import nextstep.subway.domain.Station;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class PathsResponse {
+
+    private List<PathResponse> paths;
+
+    private PathsResponse() {
+    }
+
+    public static PathsResponse of(List<List<Station>> paths) {
+        PathsResponse response = new PathsResponse();
+        response.paths = paths.stream()
+                .map(PathResponse::of)
+                .collect(Collectors.toList());
+
+        return response;
+    }
+
+    public List<PathResponse> getPaths() {
+        return paths;
+    }
+
+}
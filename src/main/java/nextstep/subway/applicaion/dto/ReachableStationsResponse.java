@@ -0,0 +1,71 @@
+package nextstep.subway.applicaion.dto;
+
+import nextstep.subway.domain.Station;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public class ReachableStationsResponse {
+
+    private Long source;
+    private int maxDistance;
+    private List<ReachableStationResponse> stations;
+
+    private ReachableStationsResponse() {
+    }
+
+    public static ReachableStationsResponse of(Station source, int maxDistance, Map<Station, Integer> stations) {
+        ReachableStationsResponse response = new ReachableStationsResponse();
+        response.source = source.getId();
+        response.maxDistance = maxDistance;
+        response.stations = stations.entrySet()
+                .stream()
+                .map(it -> ReachableStationResponse.of(it.getKey(), it.getValue()))
+                .collect(Collectors.toList());
+
+        return response;
+    }
+
+    public Long getSource() {
+        return source;
+    }
+
+    public int getMaxDistance() {
+        return maxDistance;
+    }
+
+    public List<ReachableStationResponse> getStations() {
+        return stations;
+    }
+
+    public static class ReachableStationResponse {
+
+        private Long id;
+        private String name;
+        private int distance;
+
+        private static ReachableStationResponse of(Station station, int distance) {
+            ReachableStationResponse response = new ReachableStationResponse();
+            response.id = station.getId();
+            response.name = station.getName();
+            response.distance = distance;
+
+            return response;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getDistance() {
+            return distance;
+        }
+
+    }
+
+}
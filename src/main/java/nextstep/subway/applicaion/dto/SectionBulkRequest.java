@@ -0,0 +1,33 @@
+package nextstep.subway.applicaion.dto;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toSet;
+
+public class SectionBulkRequest {
+
+    private List<SectionRequest> sections;
+
+    private SectionBulkRequest() {
+    }
+
+    public static SectionBulkRequest of(List<SectionRequest> sections) {
+        SectionBulkRequest request = new SectionBulkRequest();
+        request.sections = sections;
+
+        return request;
+    }
+
+    public List<SectionRequest> getSections() {
+        return sections;
+    }
+
+    public Set<Long> stationIds() {
+        return sections.stream()
+                .flatMap(it -> Stream.of(it.getUpStationId(), it.getDownStationId()))
+                .collect(toSet());
+    }
+
+}
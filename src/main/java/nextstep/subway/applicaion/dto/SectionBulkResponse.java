@@ -0,0 +1,39 @@
+package nextstep.subway.applicaion.dto;
+
+import nextstep.subway.domain.Section;
+
+import java.util.List;
+
+public class SectionBulkResponse {
+
+    private Long lineId;
+    private int sectionCount;
+    private int distance;
+
+    private SectionBulkResponse() {
+    }
+
+    public static SectionBulkResponse of(long lineId, List<Section> sections) {
+        SectionBulkResponse response = new SectionBulkResponse();
+        response.lineId = lineId;
+        response.sectionCount = sections.size();
+        for (Section section : sections) {
+            response.distance += section.getDistance();
+        }
+
+        return response;
+    }
+
+    public Long getLineId() {
+        return lineId;
+    }
+
+    public int getSectionCount() {
+        return sectionCount;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+
+}
@@ -0,0 +1,67 @@
+package nextstep.subway.applicaion.dto;
+
+import nextstep.subway.domain.Timetable;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+public class TimetableRequest {
+
+    private LocalTime firstDepartureTime;
+    private LocalTime lastDepartureTime;
+    private int headwayMinutes;
+    private List<LocalTime> departureTimes = new ArrayList<>();
+    private int secondsPerDistance;
+
+    private TimetableRequest() {
+    }
+
+    public static TimetableRequest ofHeadway(LocalTime firstDepartureTime, LocalTime lastDepartureTime,
+                                             int headwayMinutes, int secondsPerDistance) {
+        TimetableRequest request = new TimetableRequest();
+        request.firstDepartureTime = firstDepartureTime;
+        request.lastDepartureTime = lastDepartureTime;
+        request.headwayMinutes = headwayMinutes;
+        request.secondsPerDistance = secondsPerDistance;
+
+        return request;
+    }
+
+    public static TimetableRequest ofDepartures(List<LocalTime> departureTimes, int secondsPerDistance) {
+        TimetableRequest request = new TimetableRequest();
+        request.departureTimes = departureTimes;
+        request.secondsPerDistance = secondsPerDistance;
+
+        return request;
+    }
+
+    public Timetable toTimetable() {
+        if (Objects.nonNull(departureTimes) && !departureTimes.isEmpty()) {
+            return Timetable.ofDepartures(departureTimes, secondsPerDistance);
+        }
+        return Timetable.ofHeadway(firstDepartureTime, lastDepartureTime, headwayMinutes, secondsPerDistance);
+    }
+
+    public LocalTime getFirstDepartureTime() {
+        return firstDepartureTime;
+    }
+
+    public LocalTime getLastDepartureTime() {
+        return lastDepartureTime;
+    }
+
+    public int getHeadwayMinutes() {
+        return headwayMinutes;
+    }
+
+    public List<LocalTime> getDepartureTimes() {
+        return departureTimes;
+    }
+
+    public int getSecondsPerDistance() {
+        return secondsPerDistance;
+    }
+
+}
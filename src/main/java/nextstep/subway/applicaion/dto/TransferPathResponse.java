@@ -0,0 +1,92 @@
+package nextstep.subway.applicaion.dto;
+
+import nextstep.subway.applicaion.dto.PathResponse.StationResponse;
+import nextstep.subway.domain.TransferPath;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class TransferPathResponse {
+
+    private List<StationResponse> stations;
+    private int distance;
+    private int transferCount;
+    private int transferPenalty;
+    private List<LegResponse> legs;
+
+    private TransferPathResponse() {
+    }
+
+    public static TransferPathResponse of(TransferPath path, int transferPenalty) {
+        TransferPathResponse response = new TransferPathResponse();
+        response.stations = PathResponse.of(path.getStations()).getStations();
+        response.distance = path.getDistance();
+        response.transferCount = path.getTransferCount();
+        response.transferPenalty = transferPenalty;
+        response.legs = path.getLegs()
+                .stream()
+                .map(LegResponse::of)
+                .collect(Collectors.toList());
+
+        return response;
+    }
+
+    public List<StationResponse> getStations() {
+        return stations;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+
+    public int getTransferCount() {
+        return transferCount;
+    }
+
+    public int getTransferPenalty() {
+        return transferPenalty;
+    }
+
+    public List<LegResponse> getLegs() {
+        return legs;
+    }
+
+    public static class LegResponse {
+
+        private Long lineId;
+        private String lineName;
+        private List<StationResponse> stations;
+        private int distance;
+
+        private LegResponse() {
+        }
+
+        private static LegResponse of(TransferPath.Leg leg) {
+            LegResponse response = new LegResponse();
+            response.lineId = leg.getLine().getId();
+            response.lineName = leg.getLine().getName();
+            response.stations = PathResponse.of(leg.getStations()).getStations();
+            response.distance = leg.getDistance();
+
+            return response;
+        }
+
+        public Long getLineId() {
+            return lineId;
+        }
+
+        public String getLineName() {
+            return lineName;
+        }
+
+        public List<StationResponse> getStations() {
+            return stations;
+        }
+
+        public int getDistance() {
+            return distance;
+        }
+
+    }
+
+}
@@ -1,28 +1,45 @@
 package nextstep.subway.applicaion.query;
 
+import nextstep.subway.applicaion.dto.DirectRideResponse;
 import nextstep.subway.applicaion.dto.LineAndSectionResponse;
+import nextstep.subway.domain.DirectRideIndex;
 import nextstep.subway.domain.Line;
 import nextstep.subway.domain.LineRepository;
+import nextstep.subway.domain.Station;
+import nextstep.subway.domain.StationRepository;
+import nextstep.subway.domain.TransferPath;
 import nextstep.subway.exception.line.LineNotFoundException;
+import nextstep.subway.exception.path.SameStationException;
+import nextstep.subway.exception.station.StationNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
 
 @Service
 @Transactional(readOnly = true)
 public class LineQueryService {
 
     private final LineRepository lineRepository;
+    private final StationRepository stationRepository;
+    private final ShortestPathCheckerCache shortestPathCheckerCache;
 
-    public LineQueryService(LineRepository lineRepository) {
+    public LineQueryService(LineRepository lineRepository, StationRepository stationRepository,
+                            ShortestPathCheckerCache shortestPathCheckerCache) {
         this.lineRepository = lineRepository;
+        this.stationRepository = stationRepository;
+        this.shortestPathCheckerCache = shortestPathCheckerCache;
     }
 
     public List<LineAndSectionResponse> findAllLines() {
-        List<Line> lines = lineRepository.findAll();
+        List<Line> lines = lineRepository.findAllWithSections();
 
         return lines.stream()
                 .map(this::createShowLineResponse)
@@ -35,6 +52,40 @@ public class LineQueryService {
         return createShowLineResponse(line);
     }
 
+    public List<DirectRideResponse> findDirectRides(long sourceId, long targetId) {
+        Station sourceStation = findStationById(sourceId);
+        Station targetStation = findStationById(targetId);
+
+        return findDirectRides(sourceStation, targetStation).stream()
+                .map(DirectRideResponse::of)
+                .collect(toList());
+    }
+
+    /**
+     * 갈아타지 않고 source에서 target까지 갈 수 있는 노선별 구간을 짧은 순서대로 돌려준다.
+     * 그래프 스냅샷에 함께 둔 노선별 누적 거리 색인으로 구간을 찾고, 찾은 노선만 한 번에 읽는다.
+     */
+    public List<TransferPath.Leg> findDirectRides(Station source, Station target) {
+        if (Objects.equals(source, target)) {
+            throw new SameStationException();
+        }
+
+        List<DirectRideIndex.Ride> rides = shortestPathCheckerCache.getDirectRideIndex().findRides(source, target);
+        if (rides.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<Long, Line> lines = lineRepository.findAllById(rides.stream()
+                        .map(DirectRideIndex.Ride::getLineId)
+                        .collect(toList()))
+                .stream()
+                .collect(toMap(Line::getId, Function.identity()));
+        return rides.stream()
+                .filter(it -> lines.containsKey(it.getLineId()))
+                .map(it -> TransferPath.Leg.of(lines.get(it.getLineId()), it.getStations(), it.getDistance()))
+                .collect(toList());
+    }
+
     public Line findLineById(long id) {
         return lineRepository.findById(id)
                 .orElseThrow(() -> new LineNotFoundException());
@@ -51,4 +102,9 @@ public class LineQueryService {
         );
     }
 
+    private Station findStationById(long id) {
+        return stationRepository.findById(id)
+                .orElseThrow(() -> new StationNotFoundException(id));
+    }
+
 }
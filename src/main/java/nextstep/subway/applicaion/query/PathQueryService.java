@@ -1,31 +1,202 @@
 package nextstep.subway.applicaion.query;
 
+import nextstep.subway.applicaion.dto.DistanceResponse;
+import nextstep.subway.applicaion.dto.PathBatchRequest;
+import nextstep.subway.applicaion.dto.JourneyResponse;
+import nextstep.subway.applicaion.dto.PathBatchResponse;
+import nextstep.subway.applicaion.dto.PathBatchResponse.PathResult;
+import nextstep.subway.applicaion.dto.PathRequest;
 import nextstep.subway.applicaion.dto.PathResponse;
+import nextstep.subway.applicaion.dto.PathStatisticsResponse;
+import nextstep.subway.applicaion.dto.PathsResponse;
+import nextstep.subway.applicaion.dto.ReachableStationsResponse;
+import nextstep.subway.applicaion.dto.TransferPathResponse;
 import nextstep.subway.domain.*;
+import nextstep.subway.exception.ServiceException;
+import nextstep.subway.exception.path.BatchSizeExceededException;
+import nextstep.subway.exception.path.InvalidPathBatchException;
 import nextstep.subway.exception.station.StationNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
+import static java.util.stream.Collectors.toSet;
 
 @Service
+@Transactional(readOnly = true)
 public class PathQueryService {
 
-    private final LineRepository lineRepository;
+    private static final int MAX_BATCH_SIZE = 1000;
+
     private final StationRepository stationRepository;
+    private final ShortestPathCheckerCache shortestPathCheckerCache;
+    private final PathResultCache pathResultCache;
+    private final LineQueryService lineQueryService;
+    private final SingleFlight<PathQuery, List<Station>> pathQueries = new SingleFlight<>();
 
-    public PathQueryService(LineRepository lineRepository,
-                            StationRepository stationRepository) {
-        this.lineRepository = lineRepository;
+    public PathQueryService(StationRepository stationRepository,
+                            ShortestPathCheckerCache shortestPathCheckerCache,
+                            PathResultCache pathResultCache,
+                            LineQueryService lineQueryService) {
         this.stationRepository = stationRepository;
+        this.shortestPathCheckerCache = shortestPathCheckerCache;
+        this.pathResultCache = pathResultCache;
+        this.lineQueryService = lineQueryService;
     }
 
     public PathResponse findPath(long sourceId, long targetId) {
+        // 버전을 그래프보다 먼저 읽어야 결과가 자신보다 새로운 버전으로 기록되지 않는다.
+        long version = shortestPathCheckerCache.getVersion();
+        List<Station> cachedPath = pathResultCache.get(sourceId, targetId, version);
+        if (Objects.nonNull(cachedPath)) {
+            return PathResponse.of(cachedPath);
+        }
+
+        // 같은 버전에서 같은 경로를 동시에 찾는 요청은 먼저 들어온 요청의 탐색 결과를 함께 쓴다.
+        List<Station> path = pathQueries.execute(PathQuery.of(sourceId, targetId, version),
+                () -> findShortestPath(sourceId, targetId, version));
+        return PathResponse.of(path);
+    }
+
+    public DistanceResponse findDistance(long sourceId, long targetId) {
+        Station sourceStation = findStationById(sourceId);
+        Station targetStation = findStationById(targetId);
+        shortestPathCheckerCache.get().validateConnected(sourceStation, targetStation);
+        HubLabelIndex hubLabelIndex = shortestPathCheckerCache.getHubLabelIndex();
+
+        int distance = hubLabelIndex.findDistance(sourceStation, targetStation);
+        return DistanceResponse.of(sourceStation, targetStation, distance);
+    }
+
+    public PathsResponse findPaths(long sourceId, long targetId, int count) {
+        Station sourceStation = findStationById(sourceId);
+        Station targetStation = findStationById(targetId);
+        ShortestPathChecker pathChecker = shortestPathCheckerCache.get();
+
+        List<List<Station>> paths = pathChecker.findShortestPaths(sourceStation, targetStation, count);
+        return PathsResponse.of(paths);
+    }
+
+    public TransferPathResponse findTransferPath(long sourceId, long targetId, int transferPenalty) {
         Station sourceStation = findStationById(sourceId);
         Station targetStation = findStationById(targetId);
-        ShortestPathChecker pathChecker = ShortestPathChecker.of(findAllLines());
+        ShortestPathChecker pathChecker = shortestPathCheckerCache.get();
+        pathChecker.validateConnected(sourceStation, targetStation);
+        TransferPath directRide = findShortestDirectRide(pathChecker, sourceStation, targetStation);
+        if (Objects.nonNull(directRide)) {
+            return TransferPathResponse.of(directRide, transferPenalty);
+        }
+        TransferPathFinder pathFinder = shortestPathCheckerCache.getTransferPathFinder();
+
+        TransferPath path = pathFinder.findPath(sourceStation, targetStation, transferPenalty);
+        return TransferPathResponse.of(path, transferPenalty);
+    }
+
+    public JourneyResponse findEarliestArrival(long sourceId, long targetId, LocalTime departureTime) {
+        Station sourceStation = findStationById(sourceId);
+        Station targetStation = findStationById(targetId);
+        shortestPathCheckerCache.get().validateConnected(sourceStation, targetStation);
+        RaptorPathFinder pathFinder = shortestPathCheckerCache.getRaptorPathFinder();
+
+        Journey journey = pathFinder.findJourney(sourceStation, targetStation, departureTime);
+        return JourneyResponse.of(journey);
+    }
+
+    public PathBatchResponse findPaths(PathBatchRequest request) {
+        List<PathRequest> pairs = request.getPaths();
+        validateBatchPaths(pairs);
+        validateBatchSize(pairs);
+
+        Map<Long, Station> stations = findStationsByIds(pairs);
+        ShortestPathChecker pathChecker = shortestPathCheckerCache.get();
+
+        List<PathResult> results = pairs.parallelStream()
+                .map(it -> findPath(pathChecker, stations, it))
+                .collect(toList());
+        return PathBatchResponse.of(results);
+    }
+
+    public ReachableStationsResponse findReachableStations(long sourceId, int maxDistance) {
+        Station sourceStation = findStationById(sourceId);
+        ShortestPathChecker pathChecker = shortestPathCheckerCache.get();
+
+        Map<Station, Integer> stations = pathChecker.findReachableStations(sourceStation, maxDistance);
+        return ReachableStationsResponse.of(sourceStation, maxDistance, stations);
+    }
+
+    public PathStatisticsResponse findStatistics() {
+        ShortestPathChecker pathChecker = shortestPathCheckerCache.get();
+
+        return PathStatisticsResponse.of(shortestPathCheckerCache.getPathEngine(), pathChecker.getStatistics(),
+                pathChecker.getComponentIndex(), shortestPathCheckerCache.getHubLabelStatistics(),
+                pathResultCache.getStatistics(), getCoalescingStatistics());
+    }
+
+    private Map<String, Map<String, Long>> getCoalescingStatistics() {
+        Map<String, Map<String, Long>> statistics = new LinkedHashMap<>();
+        statistics.put("paths", pathQueries.getStatistics());
+        statistics.put("rebuilds", shortestPathCheckerCache.getRebuildStatistics());
+        return statistics;
+    }
+
+    /**
+     * 갈아타지 않고 최단 거리로 갈 수 있으면 환승 벌점이 얼마든 그 경로보다 나은 경로는 없으므로 탐색하지 않는다.
+     * 더 짧은 경로가 있는지는 직행 거리 안쪽만 탐색해 확인하고, 노선은 그 구간이 최단일 때만 읽는다.
+     */
+    private TransferPath findShortestDirectRide(ShortestPathChecker pathChecker, Station source, Station target) {
+        List<DirectRideIndex.Ride> rides = shortestPathCheckerCache.getDirectRideIndex().findRides(source, target);
+        if (rides.isEmpty()) {
+            return null;
+        }
+
+        DirectRideIndex.Ride ride = rides.get(0);
+        if (pathChecker.hasShorterPath(source, target, ride.getDistance())) {
+            return null;
+        }
+        Line line = lineQueryService.findLineById(ride.getLineId());
+        return TransferPath.of(Collections.singletonList(
+                TransferPath.Leg.of(line, ride.getStations(), ride.getDistance())));
+    }
+
+    private List<Station> findShortestPath(long sourceId, long targetId, long version) {
+        Station sourceStation = findStationById(sourceId);
+        Station targetStation = findStationById(targetId);
+        ShortestPathChecker pathChecker = shortestPathCheckerCache.get();
 
         List<Station> path = pathChecker.findShortestPath(sourceStation, targetStation);
-        return PathResponse.of(path);
+        pathResultCache.put(sourceId, targetId, version, path);
+        return path;
+    }
+
+    private PathResult findPath(ShortestPathChecker pathChecker, Map<Long, Station> stations, PathRequest pair) {
+        try {
+            Station sourceStation = findStation(stations, pair.getSource());
+            Station targetStation = findStation(stations, pair.getTarget());
+            List<Station> path = pathChecker.findShortestPath(sourceStation, targetStation);
+
+            return PathResult.success(pair.getSource(), pair.getTarget(), PathResponse.of(path));
+        } catch (ServiceException e) {
+            return PathResult.failure(pair.getSource(), pair.getTarget(), e.getMessage());
+        }
+    }
+
+    private Station findStation(Map<Long, Station> stations, Long id) {
+        Station station = stations.get(id);
+        if (Objects.isNull(station)) {
+            throw new StationNotFoundException(id);
+        }
+        return station;
     }
 
     private Station findStationById(long id) {
@@ -33,8 +204,62 @@ public class PathQueryService {
                 .orElseThrow(() -> new StationNotFoundException(id));
     }
 
-    private List<Line> findAllLines() {
-        return lineRepository.findAll();
+    private Map<Long, Station> findStationsByIds(List<PathRequest> pairs) {
+        Set<Long> ids = pairs.stream()
+                .flatMap(it -> Stream.of(it.getSource(), it.getTarget()))
+                .filter(Objects::nonNull)
+                .collect(toSet());
+
+        return stationRepository.findAllById(ids)
+                .stream()
+                .collect(toMap(Station::getId, Function.identity()));
+    }
+
+    private void validateBatchPaths(List<PathRequest> pairs) {
+        if (Objects.isNull(pairs) || pairs.isEmpty() || pairs.contains(null)) {
+            throw new InvalidPathBatchException();
+        }
+    }
+
+    private void validateBatchSize(List<PathRequest> pairs) {
+        if (pairs.size() > MAX_BATCH_SIZE) {
+            throw new BatchSizeExceededException(MAX_BATCH_SIZE, pairs.size());
+        }
+    }
+
+    private static class PathQuery {
+
+        private final long sourceId;
+        private final long targetId;
+        private final long version;
+
+        private PathQuery(long sourceId, long targetId, long version) {
+            this.sourceId = sourceId;
+            this.targetId = targetId;
+            this.version = version;
+        }
+
+        private static PathQuery of(long sourceId, long targetId, long version) {
+            return new PathQuery(sourceId, targetId, version);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            PathQuery that = (PathQuery) o;
+            return sourceId == that.sourceId && targetId == that.targetId && version == that.version;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(sourceId, targetId, version);
+        }
+
     }
 
 }
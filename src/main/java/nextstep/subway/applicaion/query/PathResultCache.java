@@ -0,0 +1,169 @@
+package nextstep.subway.applicaion.query;
+
+import nextstep.subway.domain.Station;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+@Component
+public class PathResultCache {
+
+    private static final int SEGMENT_COUNT = 16;
+
+    private final Segment[] segments = new Segment[SEGMENT_COUNT];
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public PathResultCache(@Value("${subway.path.result-cache.max-size:10000}") int maxSize) {
+        int segmentCapacity = Math.max(1, (maxSize + SEGMENT_COUNT - 1) / SEGMENT_COUNT);
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment(segmentCapacity);
+        }
+    }
+
+    public List<Station> get(long sourceId, long targetId, long version) {
+        StationPair key = StationPair.of(sourceId, targetId);
+        Segment segment = segmentOf(key);
+        CachedPath cached;
+        synchronized (segment) {
+            cached = segment.get(key);
+        }
+
+        if (Objects.isNull(cached) || cached.version != version) {
+            misses.increment();
+            return null;
+        }
+
+        hits.increment();
+        return cached.orient(sourceId == key.low);
+    }
+
+    public void put(long sourceId, long targetId, long version, List<Station> path) {
+        StationPair key = StationPair.of(sourceId, targetId);
+        CachedPath cached = CachedPath.of(version, path, sourceId == key.low);
+        Segment segment = segmentOf(key);
+        synchronized (segment) {
+            CachedPath previous = segment.get(key);
+            if (Objects.isNull(previous) || previous.version <= version) {
+                segment.put(key, cached);
+            }
+        }
+    }
+
+    public Map<String, Long> getStatistics() {
+        Map<String, Long> statistics = new LinkedHashMap<>();
+        statistics.put("hits", hits.sum());
+        statistics.put("misses", misses.sum());
+        statistics.put("evictions", evictions.sum());
+        statistics.put("size", (long) size());
+        return statistics;
+    }
+
+    private int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    private Segment segmentOf(StationPair key) {
+        int hash = key.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & (SEGMENT_COUNT - 1)];
+    }
+
+    private class Segment extends LinkedHashMap<StationPair, CachedPath> {
+
+        private final int capacity;
+
+        private Segment(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<StationPair, CachedPath> eldest) {
+            if (size() <= capacity) {
+                return false;
+            }
+            evictions.increment();
+            return true;
+        }
+
+    }
+
+    /**
+     * 경로는 양방향으로 같으므로 두 역 id의 순서와 상관없이 같은 키를 쓴다.
+     */
+    private static class StationPair {
+
+        private final long low;
+        private final long high;
+
+        private StationPair(long low, long high) {
+            this.low = low;
+            this.high = high;
+        }
+
+        private static StationPair of(long sourceId, long targetId) {
+            return new StationPair(Math.min(sourceId, targetId), Math.max(sourceId, targetId));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            StationPair that = (StationPair) o;
+            return low == that.low && high == that.high;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(low, high);
+        }
+
+    }
+
+    private static class CachedPath {
+
+        private final long version;
+        private final List<Station> forward;
+        private final List<Station> backward;
+
+        private CachedPath(long version, List<Station> forward, List<Station> backward) {
+            this.version = version;
+            this.forward = forward;
+            this.backward = backward;
+        }
+
+        private static CachedPath of(long version, List<Station> path, boolean forward) {
+            List<Station> copy = new ArrayList<>(path);
+            List<Station> reversed = new ArrayList<>(path);
+            Collections.reverse(reversed);
+            if (forward) {
+                return new CachedPath(version, Collections.unmodifiableList(copy), Collections.unmodifiableList(reversed));
+            }
+            return new CachedPath(version, Collections.unmodifiableList(reversed), Collections.unmodifiableList(copy));
+        }
+
+        private List<Station> orient(boolean forward) {
+            return forward ? this.forward : backward;
+        }
+
+    }
+
+}
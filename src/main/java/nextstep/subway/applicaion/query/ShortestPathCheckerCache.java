@@ -0,0 +1,326 @@
+package nextstep.subway.applicaion.query;
+
+import nextstep.subway.domain.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+@Component
+public class ShortestPathCheckerCache {
+
+    private static final Logger log = LoggerFactory.getLogger(ShortestPathCheckerCache.class);
+
+    private final LineRepository lineRepository;
+    private final StationGraphRepository stationGraphRepository;
+    private final PathEngine pathEngine;
+    private final int allPairsMaxStations;
+    private final int altLandmarkCount;
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private final AtomicReference<VersionedValue<TransferPathFinder>> transferPathFinder = new AtomicReference<>();
+    private final AtomicReference<VersionedValue<RaptorPathFinder>> raptorPathFinder = new AtomicReference<>();
+    private final AtomicReference<VersionedValue<HubLabelIndex>> hubLabelIndex = new AtomicReference<>();
+    private final SingleFlight<Long, Snapshot> snapshotRebuilds = new SingleFlight<>();
+    private final SingleFlight<Long, ShortestPathChecker> checkerRebuilds = new SingleFlight<>();
+    private final SingleFlight<Long, TransferPathFinder> transferRebuilds = new SingleFlight<>();
+    private final SingleFlight<Long, RaptorPathFinder> raptorRebuilds = new SingleFlight<>();
+    private final SingleFlight<Long, HubLabelIndex> hubLabelRebuilds = new SingleFlight<>();
+
+    public ShortestPathCheckerCache(LineRepository lineRepository,
+                                    StationGraphRepository stationGraphRepository,
+                                    @Value("${subway.path.engine:csr}") String pathEngine,
+                                    @Value("${subway.path.all-pairs.max-stations:2000}") int allPairsMaxStations,
+                                    @Value("${subway.path.alt.landmarks:8}") int altLandmarkCount) {
+        this.lineRepository = lineRepository;
+        this.stationGraphRepository = stationGraphRepository;
+        this.pathEngine = PathEngine.of(pathEngine);
+        this.allPairsMaxStations = allPairsMaxStations;
+        this.altLandmarkCount = altLandmarkCount;
+    }
+
+    /**
+     * 탐색 엔진은 버전마다 처음 조회할 때 만든다. 구간 변경분만 반영한 버전도 여기서 엔진을 만든다.
+     */
+    public ShortestPathChecker get() {
+        Snapshot current = currentSnapshot();
+        ShortestPathChecker checker = current.checker;
+        if (Objects.nonNull(checker)) {
+            return checker;
+        }
+
+        // 같은 버전의 엔진을 동시에 만들려는 요청은 하나로 합친다.
+        return checkerRebuilds.execute(current.version, () -> buildChecker(current));
+    }
+
+    public TransferPathFinder getTransferPathFinder() {
+        return getOrBuild(transferPathFinder, transferRebuilds, TransferPathFinder::of,
+                TransferPathFinder::getStatistics);
+    }
+
+    public RaptorPathFinder getRaptorPathFinder() {
+        return getOrBuild(raptorPathFinder, raptorRebuilds, RaptorPathFinder::of, RaptorPathFinder::getStatistics);
+    }
+
+    /**
+     * 갈아타지 않는 구간 색인은 그래프와 같은 구간 행으로 만들어 스냅샷에 함께 두므로 노선을 읽지 않는다.
+     */
+    public DirectRideIndex getDirectRideIndex() {
+        return currentSnapshot().network.getDirectRides();
+    }
+
+    /**
+     * 거리 색인은 현재 스냅샷의 그래프로 만들므로 노선을 다시 읽지 않는다.
+     * 구간 변경분만 반영한 스냅샷도 새 버전이므로 색인은 그 그래프로 다시 만든다.
+     */
+    public HubLabelIndex getHubLabelIndex() {
+        Snapshot current = currentSnapshot();
+        VersionedValue<HubLabelIndex> index = hubLabelIndex.get();
+        if (Objects.nonNull(index) && index.version == current.version) {
+            return index.value;
+        }
+
+        return hubLabelRebuilds.execute(current.version, () -> buildHubLabelIndex(current));
+    }
+
+    /**
+     * 현재 버전의 거리 색인을 이미 만든 경우에만 통계를 돌려준다. 통계를 보려고 색인을 만들지는 않는다.
+     */
+    public Map<String, Long> getHubLabelStatistics() {
+        VersionedValue<HubLabelIndex> index = hubLabelIndex.get();
+        if (Objects.isNull(index) || index.version != version.get()) {
+            return Collections.emptyMap();
+        }
+        return index.value.getStatistics();
+    }
+
+    /**
+     * 구간 변경분만 현재 그래프에 반영한 다음 버전을 트랜잭션 안에서 만들어 두고, 커밋된 뒤에 게시한다.
+     * 커밋 전에는 다른 요청이 아직 DB에 없는 구간으로 경로를 찾지 않고, 롤백되면 게시하지 않고 무효화만 한다.
+     * 게시된 그래프가 최신이 아니거나 변경분을 반영할 수 없으면 전체 재구성으로 되돌아간다.
+     */
+    public void apply(SectionChanges changes) {
+        Snapshot current = snapshot.get();
+        long currentVersion = version.get();
+        if (Objects.isNull(current) || current.version != currentVersion) {
+            invalidate();
+            return;
+        }
+
+        Snapshot next;
+        try {
+            next = new Snapshot(currentVersion + 1, current.network.apply(changes));
+        } catch (IllegalStateException e) {
+            log.warn("section changes could not be applied to the routing graph, rebuilding", e);
+            invalidate();
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(next);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish(next);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    version.incrementAndGet();
+                }
+            }
+        });
+    }
+
+    public long getVersion() {
+        return version.get();
+    }
+
+    public PathEngine getPathEngine() {
+        return pathEngine;
+    }
+
+    public Map<String, Long> getRebuildStatistics() {
+        return checkerRebuilds.getStatistics();
+    }
+
+    public void invalidate() {
+        version.incrementAndGet();
+
+        // 트랜잭션 안에서 읽어 간 스냅샷이 커밋/롤백 이후에도 남지 않도록 종료 시점에 한 번 더 무효화한다.
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    version.incrementAndGet();
+                }
+            });
+        }
+    }
+
+    /**
+     * 변경분을 만든 뒤 다른 변경이 먼저 게시되었거나 그래프가 무효화되었다면 이 변경분은 버리고 다시 만든다.
+     */
+    private synchronized void publish(Snapshot next) {
+        if (!version.compareAndSet(next.version - 1, next.version)) {
+            version.incrementAndGet();
+            return;
+        }
+        snapshot.accumulateAndGet(next, Snapshot::latest);
+    }
+
+    private Snapshot currentSnapshot() {
+        long currentVersion = version.get();
+        Snapshot current = snapshot.get();
+        if (Objects.nonNull(current) && current.version == currentVersion) {
+            return current;
+        }
+
+        // 같은 버전을 동시에 다시 만들려는 요청은 하나로 합친다.
+        return snapshotRebuilds.execute(currentVersion, () -> rebuild(currentVersion));
+    }
+
+    private Snapshot rebuild(long currentVersion) {
+        Snapshot current = snapshot.get();
+        if (Objects.nonNull(current) && current.version == currentVersion) {
+            return current;
+        }
+
+        Snapshot rebuilt = new Snapshot(currentVersion, stationGraphRepository.load());
+        snapshot.accumulateAndGet(rebuilt, Snapshot::latest);
+
+        return rebuilt;
+    }
+
+    private ShortestPathChecker buildChecker(Snapshot current) {
+        if (Objects.nonNull(current.checker)) {
+            return current.checker;
+        }
+
+        ShortestPathChecker checker = createChecker(current.network.getGraph());
+        log.info("path engine {} built for version {}: {}", pathEngine, current.version, checker.getStatistics());
+        current.checker = checker;
+
+        return checker;
+    }
+
+    /**
+     * 노선 확장 그래프와 시간표 탐색기는 해당 조회에서만 필요하므로 네트워크 버전마다 처음 조회할 때 한 번 만든다.
+     */
+    private <T> T getOrBuild(AtomicReference<VersionedValue<T>> reference, SingleFlight<Long, T> rebuilds,
+                             Function<List<Line>, T> factory, Function<T, Map<String, Long>> statistics) {
+        long currentVersion = version.get();
+        VersionedValue<T> current = reference.get();
+        if (Objects.nonNull(current) && current.version == currentVersion) {
+            return current.value;
+        }
+
+        return rebuilds.execute(currentVersion, () -> build(currentVersion, reference, factory, statistics));
+    }
+
+    private <T> T build(long currentVersion, AtomicReference<VersionedValue<T>> reference,
+                        Function<List<Line>, T> factory, Function<T, Map<String, Long>> statistics) {
+        VersionedValue<T> current = reference.get();
+        if (Objects.nonNull(current) && current.version == currentVersion) {
+            return current.value;
+        }
+
+        VersionedValue<T> rebuilt = new VersionedValue<>(currentVersion, factory.apply(lineRepository.findAllWithSections()));
+        log.info("{} built: {}", rebuilt.value.getClass().getSimpleName(), statistics.apply(rebuilt.value));
+        reference.accumulateAndGet(rebuilt, VersionedValue::latest);
+
+        return rebuilt.value;
+    }
+
+    private HubLabelIndex buildHubLabelIndex(Snapshot current) {
+        VersionedValue<HubLabelIndex> index = hubLabelIndex.get();
+        if (Objects.nonNull(index) && index.version == current.version) {
+            return index.value;
+        }
+
+        VersionedValue<HubLabelIndex> rebuilt = new VersionedValue<>(current.version, HubLabelIndex.of(current.network.getGraph()));
+        log.info("hub labels built: {}", rebuilt.value.getStatistics());
+        hubLabelIndex.accumulateAndGet(rebuilt, VersionedValue::latest);
+
+        return rebuilt.value;
+    }
+
+    private ShortestPathChecker createChecker(StationGraph graph) {
+        switch (pathEngine) {
+            case ALL_PAIRS:
+                return ShortestPathChecker.of(graph, createAllPairsPathFinder(graph));
+            case ALT:
+                return ShortestPathChecker.of(graph, AltPathFinder.of(graph, altLandmarkCount));
+            default:
+                return ShortestPathChecker.of(graph, pathEngine.createPathFinder(graph));
+        }
+    }
+
+    private PathFinder createAllPairsPathFinder(StationGraph graph) {
+        if (graph.size() > allPairsMaxStations) {
+            log.warn("all-pairs path table disabled: {} stations exceeds limit {}, falling back to csr",
+                    graph.size(), allPairsMaxStations);
+            return CsrPathFinder.of(graph);
+        }
+        if (!AllPairsPathFinder.supports(graph)) {
+            log.warn("all-pairs path table disabled: {} x {} table does not fit in one array, falling back to csr",
+                    graph.size(), graph.size());
+            return CsrPathFinder.of(graph);
+        }
+
+        return AllPairsPathFinder.of(graph);
+    }
+
+    private static class Snapshot {
+
+        private final long version;
+        private final StationNetwork network;
+        private volatile ShortestPathChecker checker;
+
+        private Snapshot(long version, StationNetwork network) {
+            this.version = version;
+            this.network = network;
+        }
+
+        private static Snapshot latest(Snapshot previous, Snapshot next) {
+            if (Objects.nonNull(previous) && previous.version > next.version) {
+                return previous;
+            }
+            return next;
+        }
+
+    }
+
+    private static class VersionedValue<T> {
+
+        private final long version;
+        private final T value;
+
+        private VersionedValue(long version, T value) {
+            this.version = version;
+            this.value = value;
+        }
+
+        private static <T> VersionedValue<T> latest(VersionedValue<T> previous, VersionedValue<T> next) {
+            if (Objects.nonNull(previous) && previous.version > next.version) {
+                return previous;
+            }
+            return next;
+        }
+
+    }
+
+}
@@ -0,0 +1,130 @@
+package nextstep.subway.domain;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+
+public class AllPairsPathFinder implements PathFinder {
+
+    private static final int ROWS_PER_TASK = 16;
+    // JVM마다 배열 머리글 몇 칸을 빼고 만들 수 있으므로 Integer.MAX_VALUE 보다 조금 작게 잡는다.
+    private static final long MAX_TABLE_SIZE = Integer.MAX_VALUE - 8;
+
+    private final StationGraph graph;
+    private final int[] distances;
+    private final int[] nextHops;
+    private long buildMillis;
+
+    private AllPairsPathFinder(StationGraph graph) {
+        if (!supports(graph)) {
+            throw new IllegalArgumentException("all-pairs path table does not fit in an array: " + graph.size() + " stations");
+        }
+        int tableSize = (int) tableSize(graph);
+        this.graph = graph;
+        this.distances = new int[tableSize];
+        this.nextHops = new int[tableSize];
+    }
+
+    public static AllPairsPathFinder of(StationGraph graph) {
+        return of(graph, ForkJoinPool.commonPool());
+    }
+
+    public static AllPairsPathFinder of(StationGraph graph, ForkJoinPool pool) {
+        long startTime = System.nanoTime();
+        AllPairsPathFinder pathFinder = new AllPairsPathFinder(graph);
+        pool.invoke(pathFinder.new FillRows(0, graph.size()));
+        pathFinder.buildMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+
+        return pathFinder;
+    }
+
+    /**
+     * 역 수의 제곱만큼 칸을 두 배열에 잡으므로 약 4만 6천 역을 넘으면 배열 하나에 담을 수 없다.
+     */
+    public static boolean supports(StationGraph graph) {
+        return tableSize(graph) <= MAX_TABLE_SIZE;
+    }
+
+    private static long tableSize(StationGraph graph) {
+        return (long) graph.size() * graph.size();
+    }
+
+    @Override
+    public List<Station> findPath(Station source, Station target) {
+        int sourceIndex = graph.indexOf(source);
+        int targetIndex = graph.indexOf(target);
+        if (sourceIndex == StationGraph.NOT_FOUND || targetIndex == StationGraph.NOT_FOUND) {
+            return null;
+        }
+
+        // 구간은 양방향이므로 target 을 루트로 한 트리의 부모가 곧 target 방향의 다음 역이다.
+        int row = targetIndex * graph.size();
+        if (distances[row + sourceIndex] == ShortestPathTree.INFINITY) {
+            return null;
+        }
+
+        List<Station> path = new ArrayList<>();
+        for (int vertex = sourceIndex; vertex != targetIndex; vertex = nextHops[row + vertex]) {
+            path.add(graph.getStation(vertex));
+        }
+        path.add(graph.getStation(targetIndex));
+
+        return path;
+    }
+
+    @Override
+    public Map<String, Long> getStatistics() {
+        Map<String, Long> statistics = new LinkedHashMap<>();
+        statistics.put("stations", (long) getStationCount());
+        statistics.put("buildMillis", buildMillis);
+        statistics.put("memoryBytes", getMemoryBytes());
+        return statistics;
+    }
+
+    public int getStationCount() {
+        return graph.size();
+    }
+
+    public long getBuildMillis() {
+        return buildMillis;
+    }
+
+    public long getMemoryBytes() {
+        return ((long) distances.length + nextHops.length) * Integer.BYTES;
+    }
+
+    private class FillRows extends RecursiveAction {
+
+        private final int from;
+        private final int to;
+
+        private FillRows(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= ROWS_PER_TASK) {
+                fill();
+                return;
+            }
+
+            int middle = (from + to) >>> 1;
+            invokeAll(new FillRows(from, middle), new FillRows(middle, to));
+        }
+
+        private void fill() {
+            for (int target = from; target < to; target++) {
+                ShortestPathTree tree = ShortestPathTree.of(graph, target);
+                tree.copyTo(distances, nextHops, target * graph.size());
+            }
+        }
+
+    }
+
+}
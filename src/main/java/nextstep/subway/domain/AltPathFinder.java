@@ -0,0 +1,201 @@
+package nextstep.subway.domain;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class AltPathFinder implements PathFinder {
+
+    public static final int DEFAULT_LANDMARK_COUNT = 8;
+
+    private final StationGraph graph;
+    private final int[] landmarks;
+    private final int[] landmarkDistances;
+
+    private AltPathFinder(StationGraph graph, int landmarkCount) {
+        this.graph = graph;
+        this.landmarks = new int[Math.min(landmarkCount, graph.size())];
+        this.landmarkDistances = new int[graph.size() * landmarks.length];
+    }
+
+    public static AltPathFinder of(StationGraph graph) {
+        return of(graph, DEFAULT_LANDMARK_COUNT);
+    }
+
+    public static AltPathFinder of(StationGraph graph, int landmarkCount) {
+        AltPathFinder pathFinder = new AltPathFinder(graph, landmarkCount);
+        pathFinder.selectLandmarks();
+
+        return pathFinder;
+    }
+
+    @Override
+    public List<Station> findPath(Station source, Station target) {
+        int sourceIndex = graph.indexOf(source);
+        int targetIndex = graph.indexOf(target);
+        if (sourceIndex == StationGraph.NOT_FOUND || targetIndex == StationGraph.NOT_FOUND) {
+            return null;
+        }
+
+        Search search = search(sourceIndex, targetIndex);
+        if (!search.isFound()) {
+            return null;
+        }
+
+        return search.toStations();
+    }
+
+    public List<Station> getLandmarks() {
+        List<Station> stations = new ArrayList<>();
+        for (int landmark : landmarks) {
+            stations.add(graph.getStation(landmark));
+        }
+        return stations;
+    }
+
+    Search search(int source, int target) {
+        Search search = new Search(source, target);
+        if (!isSeparated(source, target)) {
+            search.run();
+        }
+        return search;
+    }
+
+    private void selectLandmarks() {
+        if (landmarks.length == 0) {
+            return;
+        }
+
+        // 가장 먼 역부터 차례로 고른다. 다른 연결 요소의 역은 거리가 무한대이므로 먼저 선택된다.
+        int[] nearestLandmarkDistances = new int[graph.size()];
+        Arrays.fill(nearestLandmarkDistances, ShortestPathTree.INFINITY);
+        int next = farthest(ShortestPathTree.of(graph, 0), 0);
+
+        for (int i = 0; i < landmarks.length; i++) {
+            landmarks[i] = next;
+            ShortestPathTree tree = ShortestPathTree.of(graph, next);
+            for (int vertex = 0; vertex < graph.size(); vertex++) {
+                landmarkDistances[vertex * landmarks.length + i] = tree.distance(vertex);
+                nearestLandmarkDistances[vertex] = Math.min(nearestLandmarkDistances[vertex], tree.distance(vertex));
+            }
+            next = argMax(nearestLandmarkDistances);
+        }
+    }
+
+    private int farthest(ShortestPathTree tree, int fallback) {
+        int farthest = fallback;
+        for (int vertex = 0; vertex < graph.size(); vertex++) {
+            if (tree.isReachable(vertex) && tree.distance(vertex) > tree.distance(farthest)) {
+                farthest = vertex;
+            }
+        }
+        return farthest;
+    }
+
+    private int argMax(int[] values) {
+        int max = 0;
+        for (int i = 1; i < values.length; i++) {
+            if (values[i] > values[max]) {
+                max = i;
+            }
+        }
+        return max;
+    }
+
+    private boolean isSeparated(int source, int target) {
+        for (int i = 0; i < landmarks.length; i++) {
+            boolean sourceReachable = landmarkDistance(source, i) != ShortestPathTree.INFINITY;
+            boolean targetReachable = landmarkDistance(target, i) != ShortestPathTree.INFINITY;
+            if (sourceReachable != targetReachable) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int lowerBound(int vertex, int target) {
+        int bound = 0;
+        for (int i = 0; i < landmarks.length; i++) {
+            int toVertex = landmarkDistance(vertex, i);
+            int toTarget = landmarkDistance(target, i);
+            if (toVertex != ShortestPathTree.INFINITY && toTarget != ShortestPathTree.INFINITY) {
+                bound = Math.max(bound, Math.abs(toTarget - toVertex));
+            }
+        }
+        return bound;
+    }
+
+    private int landmarkDistance(int vertex, int landmark) {
+        return landmarkDistances[vertex * landmarks.length + landmark];
+    }
+
+    class Search {
+
+        private final int source;
+        private final int target;
+        private final int[] distances;
+        private final int[] previous;
+        private int settledCount;
+
+        private Search(int source, int target) {
+            this.source = source;
+            this.target = target;
+            this.distances = new int[graph.size()];
+            this.previous = new int[graph.size()];
+            Arrays.fill(distances, ShortestPathTree.INFINITY);
+            Arrays.fill(previous, ShortestPathTree.NONE);
+        }
+
+        boolean isFound() {
+            return distances[target] != ShortestPathTree.INFINITY;
+        }
+
+        int getDistance() {
+            return distances[target];
+        }
+
+        int getSettledCount() {
+            return settledCount;
+        }
+
+        private void run() {
+            IntMinHeap heap = new IntMinHeap(graph.size());
+            distances[source] = 0;
+            heap.offer(source, lowerBound(source, target));
+
+            while (!heap.isEmpty()) {
+                int vertex = heap.poll();
+                settledCount++;
+                if (vertex == target) {
+                    return;
+                }
+                relax(vertex, heap);
+            }
+        }
+
+        private void relax(int vertex, IntMinHeap heap) {
+            for (int edge = graph.firstEdge(vertex); edge < graph.endEdge(vertex); edge++) {
+                int next = graph.target(edge);
+                int distance = distances[vertex] + graph.weight(edge);
+                if (distance < distances[next]) {
+                    distances[next] = distance;
+                    previous[next] = vertex;
+                    heap.offer(next, distance + lowerBound(next, target));
+                }
+            }
+        }
+
+        private List<Station> toStations() {
+            List<Station> path = new ArrayList<>();
+            for (int vertex = target; vertex != ShortestPathTree.NONE; vertex = previous[vertex]) {
+                path.add(graph.getStation(vertex));
+            }
+            Collections.reverse(path);
+
+            return path;
+        }
+
+    }
+
+}
@@ -24,4 +24,9 @@ public class BaseEntity {
     public LocalDateTime getModifiedDate() {
         return modifiedDate;
     }
+
+    void changeAuditDates(LocalDateTime createdDate, LocalDateTime modifiedDate) {
+        this.createdDate = createdDate;
+        this.modifiedDate = modifiedDate;
+    }
 }
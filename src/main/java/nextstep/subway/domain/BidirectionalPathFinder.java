@@ -0,0 +1,139 @@
+package nextstep.subway.domain;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class BidirectionalPathFinder implements PathFinder {
+
+    private final StationGraph graph;
+
+    private BidirectionalPathFinder(StationGraph graph) {
+        this.graph = graph;
+    }
+
+    public static BidirectionalPathFinder of(StationGraph graph) {
+        return new BidirectionalPathFinder(graph);
+    }
+
+    @Override
+    public List<Station> findPath(Station source, Station target) {
+        int sourceIndex = graph.indexOf(source);
+        int targetIndex = graph.indexOf(target);
+        if (sourceIndex == StationGraph.NOT_FOUND || targetIndex == StationGraph.NOT_FOUND) {
+            return null;
+        }
+
+        Search search = search(sourceIndex, targetIndex);
+        if (!search.isFound()) {
+            return null;
+        }
+
+        return search.toStations();
+    }
+
+    Search search(int source, int target) {
+        Search search = new Search(source, target);
+        search.run();
+
+        return search;
+    }
+
+    class Search {
+
+        private final Direction forward;
+        private final Direction backward;
+        private int shortestDistance = ShortestPathTree.INFINITY;
+        private int forwardMeeting = ShortestPathTree.NONE;
+        private int backwardMeeting = ShortestPathTree.NONE;
+
+        private Search(int source, int target) {
+            this.forward = new Direction(source);
+            this.backward = new Direction(target);
+        }
+
+        boolean isFound() {
+            return shortestDistance != ShortestPathTree.INFINITY;
+        }
+
+        int getDistance() {
+            return shortestDistance;
+        }
+
+        int getSettledCount() {
+            return forward.settledCount + backward.settledCount;
+        }
+
+        private void run() {
+            while (!forward.heap.isEmpty() && !backward.heap.isEmpty()) {
+                // 양쪽 탐색의 최소 키 합이 지금까지 찾은 만남 거리 이상이면 더 짧은 경로는 없다.
+                if ((long) forward.heap.peekKey() + backward.heap.peekKey() >= shortestDistance) {
+                    return;
+                }
+
+                if (forward.heap.peekKey() <= backward.heap.peekKey()) {
+                    expand(forward, backward, true);
+                } else {
+                    expand(backward, forward, false);
+                }
+            }
+        }
+
+        private void expand(Direction current, Direction opposite, boolean isForward) {
+            int vertex = current.heap.poll();
+            current.settledCount++;
+
+            for (int edge = graph.firstEdge(vertex); edge < graph.endEdge(vertex); edge++) {
+                int next = graph.target(edge);
+                int distance = current.distances[vertex] + graph.weight(edge);
+                if (distance < current.distances[next]) {
+                    current.distances[next] = distance;
+                    current.previous[next] = vertex;
+                    current.heap.offer(next, distance);
+                }
+
+                if (opposite.distances[next] != ShortestPathTree.INFINITY
+                        && (long) distance + opposite.distances[next] < shortestDistance) {
+                    shortestDistance = distance + opposite.distances[next];
+                    forwardMeeting = isForward ? vertex : next;
+                    backwardMeeting = isForward ? next : vertex;
+                }
+            }
+        }
+
+        private List<Station> toStations() {
+            List<Station> path = new ArrayList<>();
+            for (int vertex = forwardMeeting; vertex != ShortestPathTree.NONE; vertex = forward.previous[vertex]) {
+                path.add(graph.getStation(vertex));
+            }
+            Collections.reverse(path);
+
+            for (int vertex = backwardMeeting; vertex != ShortestPathTree.NONE; vertex = backward.previous[vertex]) {
+                path.add(graph.getStation(vertex));
+            }
+            return path;
+        }
+
+    }
+
+    private class Direction {
+
+        private final int[] distances;
+        private final int[] previous;
+        private final IntMinHeap heap;
+        private int settledCount;
+
+        private Direction(int root) {
+            this.distances = new int[graph.size()];
+            this.previous = new int[graph.size()];
+            this.heap = new IntMinHeap(graph.size());
+            Arrays.fill(distances, ShortestPathTree.INFINITY);
+            Arrays.fill(previous, ShortestPathTree.NONE);
+            distances[root] = 0;
+            heap.offer(root, 0);
+        }
+
+    }
+
+}
@@ -0,0 +1,82 @@
+package nextstep.subway.domain;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 역마다 연결 요소 번호를 매겨 두 역이 이어져 있는지 탐색 없이 판단한다.
+ * 그래프가 바뀔 때마다 너비 우선 탐색 한 번(O(V + E))으로 다시 만든다.
+ */
+public class ComponentIndex {
+
+    private static final int UNVISITED = -1;
+
+    private final StationGraph graph;
+    private final int[] componentIds;
+    private final int[] componentSizes;
+
+    private ComponentIndex(StationGraph graph, int[] componentIds, int[] componentSizes) {
+        this.graph = graph;
+        this.componentIds = componentIds;
+        this.componentSizes = componentSizes;
+    }
+
+    public static ComponentIndex of(StationGraph graph) {
+        int[] componentIds = new int[graph.size()];
+        int[] queue = new int[graph.size()];
+        IntList sizes = new IntList();
+        Arrays.fill(componentIds, UNVISITED);
+
+        for (int root = 0; root < graph.size(); root++) {
+            if (componentIds[root] != UNVISITED) {
+                continue;
+            }
+
+            int component = sizes.size();
+            int head = 0;
+            int tail = 0;
+            componentIds[root] = component;
+            queue[tail++] = root;
+            while (head < tail) {
+                int vertex = queue[head++];
+                for (int edge = graph.firstEdge(vertex); edge < graph.endEdge(vertex); edge++) {
+                    int next = graph.target(edge);
+                    if (componentIds[next] == UNVISITED) {
+                        componentIds[next] = component;
+                        queue[tail++] = next;
+                    }
+                }
+            }
+            sizes.add(tail);
+        }
+        return new ComponentIndex(graph, componentIds, sizes.toArray());
+    }
+
+    public boolean isConnected(Station source, Station target) {
+        int sourceIndex = graph.indexOf(source);
+        int targetIndex = graph.indexOf(target);
+        if (sourceIndex == StationGraph.NOT_FOUND || targetIndex == StationGraph.NOT_FOUND) {
+            return false;
+        }
+        return componentIds[sourceIndex] == componentIds[targetIndex];
+    }
+
+    public int getComponentCount() {
+        return componentSizes.length;
+    }
+
+    /**
+     * 연결 요소별 역 수를 큰 순서대로 돌려준다.
+     */
+    public List<Integer> getComponentSizes() {
+        List<Integer> sizes = new ArrayList<>(componentSizes.length);
+        for (int size : componentSizes) {
+            sizes.add(size);
+        }
+        sizes.sort(Collections.reverseOrder());
+        return sizes;
+    }
+
+}
@@ -0,0 +1,437 @@
+package nextstep.subway.domain;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+public class ContractionHierarchyPathFinder implements PathFinder {
+
+    private static final int WITNESS_SETTLE_LIMIT = 500;
+
+    private final StationGraph graph;
+    private final int[] ranks;
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] weights;
+    private final int[] middles;
+    private final int shortcutCount;
+    private final long preprocessMillis;
+
+    private ContractionHierarchyPathFinder(StationGraph graph, Contraction contraction, long preprocessMillis) {
+        this.graph = graph;
+        this.ranks = contraction.ranks;
+        this.shortcutCount = contraction.shortcutCount;
+        this.preprocessMillis = preprocessMillis;
+
+        int size = graph.size();
+        this.offsets = new int[size + 1];
+        for (int vertex = 0; vertex < size; vertex++) {
+            Adjacency adjacency = contraction.adjacencies[vertex];
+            offsets[vertex + 1] = offsets[vertex];
+            for (int i = 0; i < adjacency.size; i++) {
+                if (ranks[adjacency.targets[i]] > ranks[vertex]) {
+                    offsets[vertex + 1]++;
+                }
+            }
+        }
+
+        // 축약 순서가 더 높은 역으로 향하는 간선만 남기면 정방향/역방향 탐색 모두 위로만 올라간다.
+        this.targets = new int[offsets[size]];
+        this.weights = new int[offsets[size]];
+        this.middles = new int[offsets[size]];
+        for (int vertex = 0; vertex < size; vertex++) {
+            Adjacency adjacency = contraction.adjacencies[vertex];
+            int edge = offsets[vertex];
+            for (int i = 0; i < adjacency.size; i++) {
+                if (ranks[adjacency.targets[i]] > ranks[vertex]) {
+                    targets[edge] = adjacency.targets[i];
+                    weights[edge] = adjacency.weights[i];
+                    middles[edge] = adjacency.middles[i];
+                    edge++;
+                }
+            }
+        }
+    }
+
+    public static ContractionHierarchyPathFinder of(StationGraph graph) {
+        long startTime = System.nanoTime();
+        Contraction contraction = new Contraction(graph);
+        contraction.run();
+        long preprocessMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+
+        return new ContractionHierarchyPathFinder(graph, contraction, preprocessMillis);
+    }
+
+    @Override
+    public List<Station> findPath(Station source, Station target) {
+        int sourceIndex = graph.indexOf(source);
+        int targetIndex = graph.indexOf(target);
+        if (sourceIndex == StationGraph.NOT_FOUND || targetIndex == StationGraph.NOT_FOUND) {
+            return null;
+        }
+
+        Search search = search(sourceIndex, targetIndex);
+        if (!search.isFound()) {
+            return null;
+        }
+
+        return search.toStations();
+    }
+
+    @Override
+    public Map<String, Long> getStatistics() {
+        Map<String, Long> statistics = new LinkedHashMap<>();
+        statistics.put("stations", (long) graph.size());
+        statistics.put("edges", (long) graph.edgeCount());
+        statistics.put("shortcuts", (long) shortcutCount);
+        statistics.put("preprocessMillis", preprocessMillis);
+        return statistics;
+    }
+
+    public int getShortcutCount() {
+        return shortcutCount;
+    }
+
+    public long getPreprocessMillis() {
+        return preprocessMillis;
+    }
+
+    int rank(int vertex) {
+        return ranks[vertex];
+    }
+
+    Search search(int source, int target) {
+        Search search = new Search(source, target);
+        search.run();
+
+        return search;
+    }
+
+    private int middleOf(int from, int to) {
+        int lower = ranks[from] < ranks[to] ? from : to;
+        int upper = lower == from ? to : from;
+        for (int edge = offsets[lower]; edge < offsets[lower + 1]; edge++) {
+            if (targets[edge] == upper) {
+                return middles[edge];
+            }
+        }
+        throw new IllegalStateException("contraction hierarchy edge not found: " + from + " -> " + to);
+    }
+
+    private void unpack(int from, int to, int middle, List<Station> path) {
+        if (middle == ShortestPathTree.NONE) {
+            path.add(graph.getStation(to));
+            return;
+        }
+        unpack(from, middle, middleOf(from, middle), path);
+        unpack(middle, to, middleOf(middle, to), path);
+    }
+
+    class Search {
+
+        private final Direction forward;
+        private final Direction backward;
+        private int shortestDistance = ShortestPathTree.INFINITY;
+        private int meeting = ShortestPathTree.NONE;
+
+        private Search(int source, int target) {
+            this.forward = new Direction(source);
+            this.backward = new Direction(target);
+        }
+
+        boolean isFound() {
+            return meeting != ShortestPathTree.NONE;
+        }
+
+        int getDistance() {
+            return shortestDistance;
+        }
+
+        int getSettledCount() {
+            return forward.settledCount + backward.settledCount;
+        }
+
+        private void run() {
+            while (true) {
+                boolean forwardActive = forward.isActive(shortestDistance);
+                boolean backwardActive = backward.isActive(shortestDistance);
+                if (!forwardActive && !backwardActive) {
+                    return;
+                }
+
+                if (forwardActive && (!backwardActive || forward.heap.peekKey() <= backward.heap.peekKey())) {
+                    expand(forward, backward);
+                } else {
+                    expand(backward, forward);
+                }
+            }
+        }
+
+        private void expand(Direction current, Direction opposite) {
+            int vertex = current.heap.poll();
+            current.settledCount++;
+            meet(vertex);
+
+            for (int edge = offsets[vertex]; edge < offsets[vertex + 1]; edge++) {
+                int next = targets[edge];
+                int distance = current.distances[vertex] + weights[edge];
+                if (distance < current.distances[next]) {
+                    current.distances[next] = distance;
+                    current.previousEdges[next] = edge;
+                    current.previous[next] = vertex;
+                    current.heap.offer(next, distance);
+                    meet(next);
+                }
+            }
+        }
+
+        private void meet(int vertex) {
+            if (forward.distances[vertex] == ShortestPathTree.INFINITY
+                    || backward.distances[vertex] == ShortestPathTree.INFINITY) {
+                return;
+            }
+
+            int distance = forward.distances[vertex] + backward.distances[vertex];
+            if (distance < shortestDistance) {
+                shortestDistance = distance;
+                meeting = vertex;
+            }
+        }
+
+        private List<Station> toStations() {
+            List<Integer> upward = new ArrayList<>();
+            for (int vertex = meeting; vertex != forward.root; vertex = forward.previous[vertex]) {
+                upward.add(vertex);
+            }
+            Collections.reverse(upward);
+
+            List<Station> path = new ArrayList<>();
+            path.add(graph.getStation(forward.root));
+            int from = forward.root;
+            for (int vertex : upward) {
+                unpack(from, vertex, middles[forward.previousEdges[vertex]], path);
+                from = vertex;
+            }
+            for (int vertex = meeting; vertex != backward.root; vertex = backward.previous[vertex]) {
+                int next = backward.previous[vertex];
+                unpack(vertex, next, middles[backward.previousEdges[vertex]], path);
+            }
+            return path;
+        }
+
+    }
+
+    private class Direction {
+
+        private final int root;
+        private final int[] distances;
+        private final int[] previous;
+        private final int[] previousEdges;
+        private final IntMinHeap heap;
+        private int settledCount;
+
+        private Direction(int root) {
+            this.root = root;
+            this.distances = new int[graph.size()];
+            this.previous = new int[graph.size()];
+            this.previousEdges = new int[graph.size()];
+            this.heap = new IntMinHeap(graph.size());
+            Arrays.fill(distances, ShortestPathTree.INFINITY);
+            distances[root] = 0;
+            heap.offer(root, 0);
+        }
+
+        private boolean isActive(int shortestDistance) {
+            return !heap.isEmpty() && heap.peekKey() < shortestDistance;
+        }
+
+    }
+
+    private static class Contraction {
+
+        private final StationGraph graph;
+        private final Adjacency[] adjacencies;
+        private final int[] ranks;
+        private final boolean[] contracted;
+        private final int[] contractedNeighbors;
+        private final int[] witnessDistances;
+        private final IntMinHeap witnessHeap;
+        private final List<Integer> touched = new ArrayList<>();
+        private int shortcutCount;
+
+        private Contraction(StationGraph graph) {
+            int size = graph.size();
+            this.graph = graph;
+            this.adjacencies = new Adjacency[size];
+            this.ranks = new int[size];
+            this.contracted = new boolean[size];
+            this.contractedNeighbors = new int[size];
+            this.witnessDistances = new int[size];
+            this.witnessHeap = new IntMinHeap(size);
+            Arrays.fill(witnessDistances, ShortestPathTree.INFINITY);
+
+            for (int vertex = 0; vertex < size; vertex++) {
+                adjacencies[vertex] = new Adjacency();
+            }
+            for (int vertex = 0; vertex < size; vertex++) {
+                for (int edge = graph.firstEdge(vertex); edge < graph.endEdge(vertex); edge++) {
+                    adjacencies[vertex].put(graph.target(edge), graph.weight(edge), ShortestPathTree.NONE);
+                }
+            }
+        }
+
+        private void run() {
+            IntMinHeap order = new IntMinHeap(graph.size());
+            for (int vertex = 0; vertex < graph.size(); vertex++) {
+                order.offer(vertex, priority(vertex));
+            }
+
+            int rank = 0;
+            while (!order.isEmpty()) {
+                int vertex = order.poll();
+                int priority = priority(vertex);
+                // 우선순위는 이웃이 축약될 때마다 바뀌므로 꺼낼 때 다시 계산해 밀려났으면 되돌려 놓는다.
+                if (!order.isEmpty() && priority > order.peekKey()) {
+                    order.offer(vertex, priority);
+                    continue;
+                }
+                contract(vertex);
+                ranks[vertex] = rank++;
+            }
+        }
+
+        private int priority(int vertex) {
+            int shortcuts = addShortcuts(vertex, false);
+            int degree = 0;
+            Adjacency adjacency = adjacencies[vertex];
+            for (int i = 0; i < adjacency.size; i++) {
+                if (!contracted[adjacency.targets[i]]) {
+                    degree++;
+                }
+            }
+            return shortcuts - degree + contractedNeighbors[vertex];
+        }
+
+        private void contract(int vertex) {
+            shortcutCount += addShortcuts(vertex, true);
+            contracted[vertex] = true;
+
+            Adjacency adjacency = adjacencies[vertex];
+            for (int i = 0; i < adjacency.size; i++) {
+                if (!contracted[adjacency.targets[i]]) {
+                    contractedNeighbors[adjacency.targets[i]]++;
+                }
+            }
+        }
+
+        private int addShortcuts(int vertex, boolean apply) {
+            Adjacency adjacency = adjacencies[vertex];
+            int count = 0;
+
+            for (int i = 0; i < adjacency.size; i++) {
+                int from = adjacency.targets[i];
+                if (contracted[from]) {
+                    continue;
+                }
+
+                int maxDistance = 0;
+                for (int j = i + 1; j < adjacency.size; j++) {
+                    if (!contracted[adjacency.targets[j]]) {
+                        maxDistance = Math.max(maxDistance, adjacency.weights[i] + adjacency.weights[j]);
+                    }
+                }
+                witnessSearch(from, vertex, maxDistance);
+
+                for (int j = i + 1; j < adjacency.size; j++) {
+                    int to = adjacency.targets[j];
+                    int distance = adjacency.weights[i] + adjacency.weights[j];
+                    if (contracted[to] || witnessDistances[to] <= distance) {
+                        continue;
+                    }
+                    count++;
+                    if (apply) {
+                        adjacencies[from].put(to, distance, vertex);
+                        adjacencies[to].put(from, distance, vertex);
+                    }
+                }
+                resetWitness();
+            }
+            return count;
+        }
+
+        private void witnessSearch(int source, int excluded, int maxDistance) {
+            witnessDistances[source] = 0;
+            touched.add(source);
+            witnessHeap.offer(source, 0);
+
+            int settled = 0;
+            while (!witnessHeap.isEmpty() && settled++ < WITNESS_SETTLE_LIMIT) {
+                int vertex = witnessHeap.poll();
+                if (witnessDistances[vertex] > maxDistance) {
+                    break;
+                }
+
+                Adjacency adjacency = adjacencies[vertex];
+                for (int i = 0; i < adjacency.size; i++) {
+                    int next = adjacency.targets[i];
+                    if (next == excluded || contracted[next]) {
+                        continue;
+                    }
+                    int distance = witnessDistances[vertex] + adjacency.weights[i];
+                    if (distance < witnessDistances[next]) {
+                        if (witnessDistances[next] == ShortestPathTree.INFINITY) {
+                            touched.add(next);
+                        }
+                        witnessDistances[next] = distance;
+                        witnessHeap.offer(next, distance);
+                    }
+                }
+            }
+            witnessHeap.clear();
+        }
+
+        private void resetWitness() {
+            for (int vertex : touched) {
+                witnessDistances[vertex] = ShortestPathTree.INFINITY;
+            }
+            touched.clear();
+        }
+
+    }
+
+    private static class Adjacency {
+
+        private int[] targets = new int[4];
+        private int[] weights = new int[4];
+        private int[] middles = new int[4];
+        private int size;
+
+        private void put(int target, int weight, int middle) {
+            for (int i = 0; i < size; i++) {
+                if (targets[i] == target) {
+                    if (weight < weights[i]) {
+                        weights[i] = weight;
+                        middles[i] = middle;
+                    }
+                    return;
+                }
+            }
+
+            if (size == targets.length) {
+                targets = Arrays.copyOf(targets, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+                middles = Arrays.copyOf(middles, size * 2);
+            }
+            targets[size] = target;
+            weights[size] = weight;
+            middles[size] = middle;
+            size++;
+        }
+
+    }
+
+}
@@ -0,0 +1,89 @@
+package nextstep.subway.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 인접 배열(CSR) 그래프를 다익스트라로 탐색한다.
+ * 거리, 이전 역, 힙, 경로 버퍼는 스레드별로 재사용하므로 탐색 중에는 객체를 만들지 않는다.
+ */
+public class CsrPathFinder implements PathFinder {
+
+    private final StationGraph graph;
+
+    private CsrPathFinder(StationGraph graph) {
+        this.graph = graph;
+    }
+
+    public static CsrPathFinder of(StationGraph graph) {
+        return new CsrPathFinder(graph);
+    }
+
+    @Override
+    public List<Station> findPath(Station source, Station target) {
+        int sourceIndex = graph.indexOf(source);
+        int targetIndex = graph.indexOf(target);
+        if (sourceIndex == StationGraph.NOT_FOUND || targetIndex == StationGraph.NOT_FOUND) {
+            return null;
+        }
+
+        SearchScratch scratch = SearchScratch.acquire(graph.size());
+        int[] pathBuffer = scratch.path();
+        int length = search(scratch, sourceIndex, targetIndex, pathBuffer);
+        if (length == 0) {
+            return null;
+        }
+
+        List<Station> path = new ArrayList<>(length);
+        for (int i = 0; i < length; i++) {
+            path.add(graph.getStation(pathBuffer[i]));
+        }
+        return path;
+    }
+
+    /**
+     * 최단 경로의 역 번호를 pathBuffer 앞에서부터 채우고 역 수를 돌려준다. 경로가 없으면 0을 돌려준다.
+     * pathBuffer는 그래프의 역 수 이상이어야 한다.
+     */
+    public int findPath(int source, int target, int[] pathBuffer) {
+        return search(SearchScratch.acquire(graph.size()), source, target, pathBuffer);
+    }
+
+    private int search(SearchScratch scratch, int source, int target, int[] pathBuffer) {
+        IntMinHeap heap = scratch.heap();
+        scratch.visit(source, 0, ShortestPathTree.NONE);
+        heap.offer(source, 0);
+
+        while (!heap.isEmpty()) {
+            int vertex = heap.poll();
+            if (vertex == target) {
+                return writePath(scratch, target, pathBuffer);
+            }
+
+            int distance = scratch.distance(vertex);
+            for (int edge = graph.firstEdge(vertex); edge < graph.endEdge(vertex); edge++) {
+                int next = graph.target(edge);
+                int nextDistance = distance + graph.weight(edge);
+                if (nextDistance < scratch.distance(next)) {
+                    scratch.visit(next, nextDistance, vertex);
+                    heap.offer(next, nextDistance);
+                }
+            }
+        }
+        return 0;
+    }
+
+    private int writePath(SearchScratch scratch, int target, int[] pathBuffer) {
+        int length = 0;
+        for (int vertex = target; vertex != ShortestPathTree.NONE; vertex = scratch.previous(vertex)) {
+            length++;
+        }
+
+        int cursor = length;
+        for (int vertex = target; vertex != ShortestPathTree.NONE; vertex = scratch.previous(vertex)) {
+            pathBuffer[--cursor] = vertex;
+        }
+        return length;
+    }
+
+}
@@ -0,0 +1,142 @@
+package nextstep.subway.domain;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * 노선마다 역 순서와 누적 거리 색인을 두어, 갈아타지 않고 가는 구간을 노선 엔티티를 읽지 않고 찾는다.
+ * 구간이 바뀌면 바뀐 노선의 색인만 다시 만든 새 색인을 돌려주고 기존 색인은 그대로 둔다.
+ */
+public class DirectRideIndex {
+
+    private final Map<Long, LineDistanceIndex> lines;
+
+    private DirectRideIndex(Map<Long, LineDistanceIndex> lines) {
+        this.lines = lines;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public DirectRideIndex apply(SectionChanges changes) {
+        Map<Long, Line> changedLines = new TreeMap<>();
+        for (List<Section> sections : Arrays.asList(changes.getRemovedSections(), changes.getAddedSections())) {
+            for (Section section : sections) {
+                changedLines.put(section.getLine().getId(), section.getLine());
+            }
+        }
+
+        Map<Long, LineDistanceIndex> nextLines = new TreeMap<>(lines);
+        for (Line line : changedLines.values()) {
+            List<Section> sections = line.getAllSection();
+            if (sections.isEmpty()) {
+                nextLines.remove(line.getId());
+                continue;
+            }
+            nextLines.put(line.getId(), LineDistanceIndex.of(sections));
+        }
+        return new DirectRideIndex(nextLines);
+    }
+
+    /**
+     * source와 target을 모두 지나는 노선마다 그 사이를 타고 가는 구간을 짧은 순서대로 돌려준다.
+     */
+    public List<Ride> findRides(Station source, Station target) {
+        if (Objects.equals(source, target)) {
+            return Collections.emptyList();
+        }
+
+        List<Ride> rides = new ArrayList<>();
+        for (Map.Entry<Long, LineDistanceIndex> entry : lines.entrySet()) {
+            LineDistanceIndex index = entry.getValue();
+            if (index.contains(source) && index.contains(target)) {
+                int sourcePosition = index.positionOf(source);
+                int targetPosition = index.positionOf(target);
+                rides.add(new Ride(entry.getKey(), index.stationsBetween(sourcePosition, targetPosition),
+                        index.distance(sourcePosition, targetPosition)));
+            }
+        }
+        rides.sort(Comparator.comparingInt(Ride::getDistance));
+        return rides;
+    }
+
+    public int lineCount() {
+        return lines.size();
+    }
+
+    public static class Ride {
+
+        private final long lineId;
+        private final List<Station> stations;
+        private final int distance;
+
+        private Ride(long lineId, List<Station> stations, int distance) {
+            this.lineId = lineId;
+            this.stations = Collections.unmodifiableList(stations);
+            this.distance = distance;
+        }
+
+        public long getLineId() {
+            return lineId;
+        }
+
+        public List<Station> getStations() {
+            return stations;
+        }
+
+        public int getDistance() {
+            return distance;
+        }
+
+    }
+
+    /**
+     * 노선 순서, 노선 안에서는 구간 순서대로 구간을 받는다. 한 노선의 구간은 상행 종점부터 이어져 있어야 한다.
+     */
+    public static class Builder {
+
+        private final Map<Long, LineDistanceIndex> lines = new TreeMap<>();
+        private List<Station> stations = new ArrayList<>();
+        private IntList cumulativeDistances = new IntList();
+        private Long lineId;
+
+        private Builder() {
+        }
+
+        public Builder addSection(long lineId, Station upStation, Station downStation, int distance) {
+            if (!Objects.equals(this.lineId, lineId)) {
+                finishLine();
+                this.lineId = lineId;
+                stations.add(upStation);
+                cumulativeDistances.add(0);
+            }
+            cumulativeDistances.add(cumulativeDistances.get(cumulativeDistances.size() - 1) + distance);
+            stations.add(downStation);
+            return this;
+        }
+
+        public DirectRideIndex build() {
+            finishLine();
+            return new DirectRideIndex(lines);
+        }
+
+        private void finishLine() {
+            if (Objects.isNull(lineId)) {
+                return;
+            }
+            lines.put(lineId, LineDistanceIndex.of(stations.toArray(new Station[0]), cumulativeDistances.toArray()));
+            stations = new ArrayList<>();
+            cumulativeDistances = new IntList();
+            lineId = null;
+        }
+
+    }
+
+}
@@ -0,0 +1,227 @@
+package nextstep.subway.domain;
+
+import nextstep.subway.exception.path.NotFoundPathException;
+import nextstep.subway.exception.path.SameStationException;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 역마다 (허브, 거리) 라벨을 두고 두 역의 라벨에 모두 있는 허브 중 가장 가까운 것으로 거리를 구한다(2-hop cover).
+ * 라벨은 pruned landmark labeling으로 만든다. 중요한 역부터 차례로 다익스트라를 돌리되,
+ * 이미 만든 라벨만으로 거리를 알 수 있는 역에서는 라벨을 더하지 않고 탐색을 멈춘다.
+ * 라벨은 허브 순위 오름차순으로 쌓이므로 조회는 정렬된 두 배열을 한 번 병합하는 것으로 끝난다.
+ */
+public class HubLabelIndex {
+
+    private final StationGraph graph;
+    private final int[] labelOffsets;
+    private final int[] labelHubs;
+    private final int[] labelDistances;
+    private final long buildMillis;
+
+    private HubLabelIndex(StationGraph graph, int[] labelOffsets, int[] labelHubs, int[] labelDistances,
+                          long buildMillis) {
+        this.graph = graph;
+        this.labelOffsets = labelOffsets;
+        this.labelHubs = labelHubs;
+        this.labelDistances = labelDistances;
+        this.buildMillis = buildMillis;
+    }
+
+    public static HubLabelIndex of(StationGraph graph) {
+        long startTime = System.nanoTime();
+        Builder builder = new Builder(graph);
+        builder.build();
+        long buildMillis = (System.nanoTime() - startTime) / 1_000_000;
+
+        return new HubLabelIndex(graph, builder.labelOffsets(), builder.labelHubs(), builder.labelDistances(),
+                buildMillis);
+    }
+
+    public int findDistance(Station source, Station target) {
+        if (Objects.equals(source, target)) {
+            throw new SameStationException();
+        }
+
+        int sourceIndex = graph.indexOf(source);
+        int targetIndex = graph.indexOf(target);
+        int distance = sourceIndex == StationGraph.NOT_FOUND || targetIndex == StationGraph.NOT_FOUND
+                ? ShortestPathTree.INFINITY
+                : distance(sourceIndex, targetIndex);
+        if (distance == ShortestPathTree.INFINITY) {
+            throw new NotFoundPathException(source.getName(), target.getName());
+        }
+        return distance;
+    }
+
+    public int distance(int source, int target) {
+        int distance = ShortestPathTree.INFINITY;
+        int i = labelOffsets[source];
+        int j = labelOffsets[target];
+        int sourceEnd = labelOffsets[source + 1];
+        int targetEnd = labelOffsets[target + 1];
+        while (i < sourceEnd && j < targetEnd) {
+            if (labelHubs[i] < labelHubs[j]) {
+                i++;
+            } else if (labelHubs[i] > labelHubs[j]) {
+                j++;
+            } else {
+                distance = Math.min(distance, labelDistances[i++] + labelDistances[j++]);
+            }
+        }
+        return distance;
+    }
+
+    public Map<String, Long> getStatistics() {
+        int maxLabelSize = 0;
+        for (int vertex = 0; vertex < graph.size(); vertex++) {
+            maxLabelSize = Math.max(maxLabelSize, labelOffsets[vertex + 1] - labelOffsets[vertex]);
+        }
+
+        Map<String, Long> statistics = new LinkedHashMap<>();
+        statistics.put("stations", (long) graph.size());
+        statistics.put("labelEntries", (long) labelHubs.length);
+        statistics.put("averageLabelSize", graph.size() == 0 ? 0L : Math.round((double) labelHubs.length / graph.size()));
+        statistics.put("maxLabelSize", (long) maxLabelSize);
+        statistics.put("buildMillis", buildMillis);
+        return statistics;
+    }
+
+    private static class Builder {
+
+        private final StationGraph graph;
+        private final int[] order;
+        private final IntList[] hubs;
+        private final IntList[] distances;
+        private final int[] hubDistances;
+        private final int[] searchDistances;
+        private final int[] visitedEpochs;
+        private final IntMinHeap heap;
+        private int epoch;
+
+        private Builder(StationGraph graph) {
+            this.graph = graph;
+            this.order = rankByContraction(graph);
+            this.hubs = new IntList[graph.size()];
+            this.distances = new IntList[graph.size()];
+            for (int vertex = 0; vertex < graph.size(); vertex++) {
+                hubs[vertex] = new IntList();
+                distances[vertex] = new IntList();
+            }
+            this.hubDistances = new int[graph.size()];
+            this.searchDistances = new int[graph.size()];
+            this.visitedEpochs = new int[graph.size()];
+            this.heap = new IntMinHeap(graph.size());
+            Arrays.fill(hubDistances, ShortestPathTree.INFINITY);
+        }
+
+        /**
+         * 축약 계층에서 늦게 축약된 역일수록 많은 최단 경로가 지나므로 먼저 허브로 삼는다.
+         */
+        private static int[] rankByContraction(StationGraph graph) {
+            ContractionHierarchyPathFinder contractionHierarchy = ContractionHierarchyPathFinder.of(graph);
+            int[] order = new int[graph.size()];
+            for (int vertex = 0; vertex < graph.size(); vertex++) {
+                order[graph.size() - 1 - contractionHierarchy.rank(vertex)] = vertex;
+            }
+            return order;
+        }
+
+        private void build() {
+            for (int rank = 0; rank < order.length; rank++) {
+                prunedSearch(rank, order[rank]);
+            }
+        }
+
+        private void prunedSearch(int rank, int root) {
+            IntList rootHubs = hubs[root];
+            IntList rootDistances = distances[root];
+            for (int i = 0; i < rootHubs.size(); i++) {
+                hubDistances[rootHubs.get(i)] = rootDistances.get(i);
+            }
+
+            epoch++;
+            visit(root, 0);
+            heap.offer(root, 0);
+            while (!heap.isEmpty()) {
+                int vertex = heap.poll();
+                int distance = searchDistances[vertex];
+                if (isCovered(vertex, distance)) {
+                    continue;
+                }
+
+                hubs[vertex].add(rank);
+                distances[vertex].add(distance);
+                for (int edge = graph.firstEdge(vertex); edge < graph.endEdge(vertex); edge++) {
+                    int next = graph.target(edge);
+                    int nextDistance = distance + graph.weight(edge);
+                    if (visitedEpochs[next] != epoch || nextDistance < searchDistances[next]) {
+                        visit(next, nextDistance);
+                        heap.offer(next, nextDistance);
+                    }
+                }
+            }
+
+            for (int i = 0; i < rootHubs.size(); i++) {
+                hubDistances[rootHubs.get(i)] = ShortestPathTree.INFINITY;
+            }
+        }
+
+        /**
+         * 이미 만든 라벨만으로 root에서 vertex까지 distance 이하로 갈 수 있으면 이 탐색은 더 볼 필요가 없다.
+         */
+        private boolean isCovered(int vertex, int distance) {
+            IntList vertexHubs = hubs[vertex];
+            IntList vertexDistances = distances[vertex];
+            for (int i = 0; i < vertexHubs.size(); i++) {
+                int hubDistance = hubDistances[vertexHubs.get(i)];
+                if (hubDistance != ShortestPathTree.INFINITY && hubDistance + vertexDistances.get(i) <= distance) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void visit(int vertex, int distance) {
+            visitedEpochs[vertex] = epoch;
+            searchDistances[vertex] = distance;
+        }
+
+        private int[] labelOffsets() {
+            int[] offsets = new int[graph.size() + 1];
+            for (int vertex = 0; vertex < graph.size(); vertex++) {
+                offsets[vertex + 1] = offsets[vertex] + hubs[vertex].size();
+            }
+            return offsets;
+        }
+
+        private int[] labelHubs() {
+            return flatten(hubs);
+        }
+
+        private int[] labelDistances() {
+            return flatten(distances);
+        }
+
+        private static int[] flatten(IntList[] lists) {
+            int size = 0;
+            for (IntList list : lists) {
+                size += list.size();
+            }
+
+            int[] values = new int[size];
+            int cursor = 0;
+            for (IntList list : lists) {
+                for (int i = 0; i < list.size(); i++) {
+                    values[cursor++] = list.get(i);
+                }
+            }
+            return values;
+        }
+
+    }
+
+}
@@ -0,0 +1,98 @@
+package nextstep.subway.domain;
+
+import java.util.Arrays;
+
+class IntMinHeap {
+
+    private static final int ABSENT = -1;
+
+    private final int[] heap;
+    private final int[] positions;
+    private final int[] keys;
+    private int size;
+
+    IntMinHeap(int capacity) {
+        this.heap = new int[capacity];
+        this.positions = new int[capacity];
+        this.keys = new int[capacity];
+        Arrays.fill(positions, ABSENT);
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int peekKey() {
+        return keys[heap[0]];
+    }
+
+    void offer(int vertex, int key) {
+        if (positions[vertex] == ABSENT) {
+            positions[vertex] = size;
+            heap[size++] = vertex;
+        } else if (keys[vertex] <= key) {
+            return;
+        }
+        keys[vertex] = key;
+        siftUp(positions[vertex]);
+    }
+
+    int poll() {
+        int vertex = heap[0];
+        positions[vertex] = ABSENT;
+        size--;
+        if (size > 0) {
+            heap[0] = heap[size];
+            positions[heap[0]] = 0;
+            siftDown(0);
+        }
+        return vertex;
+    }
+
+    void clear() {
+        for (int i = 0; i < size; i++) {
+            positions[heap[i]] = ABSENT;
+        }
+        size = 0;
+    }
+
+    private void siftUp(int index) {
+        int vertex = heap[index];
+        int key = keys[vertex];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (keys[heap[parent]] <= key) {
+                break;
+            }
+            move(heap[parent], index);
+            index = parent;
+        }
+        move(vertex, index);
+    }
+
+    private void siftDown(int index) {
+        int vertex = heap[index];
+        int key = keys[vertex];
+        while (true) {
+            int child = index * 2 + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && keys[heap[child + 1]] < keys[heap[child]]) {
+                child++;
+            }
+            if (key <= keys[heap[child]]) {
+                break;
+            }
+            move(heap[child], index);
+            index = child;
+        }
+        move(vertex, index);
+    }
+
+    private void move(int vertex, int index) {
+        heap[index] = vertex;
+        positions[vertex] = index;
+    }
+
+}
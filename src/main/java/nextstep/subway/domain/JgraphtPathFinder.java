@@ -0,0 +1,60 @@
+package nextstep.subway.domain;
+
+import org.jgrapht.GraphPath;
+import org.jgrapht.alg.shortestpath.DijkstraShortestPath;
+import org.jgrapht.graph.DefaultWeightedEdge;
+import org.jgrapht.graph.WeightedMultigraph;
+
+import java.util.List;
+import java.util.Objects;
+
+public class JgraphtPathFinder implements PathFinder {
+
+    private final WeightedMultigraph<Station, DefaultWeightedEdge> graph;
+    private final DijkstraShortestPath<Station, DefaultWeightedEdge> dijkstraShortestPath;
+
+    private JgraphtPathFinder() {
+        this.graph = new WeightedMultigraph(DefaultWeightedEdge.class);
+        this.dijkstraShortestPath = new DijkstraShortestPath(graph);
+    }
+
+    public static JgraphtPathFinder of(StationGraph stationGraph) {
+        JgraphtPathFinder pathFinder = new JgraphtPathFinder();
+        pathFinder.initGraph(stationGraph);
+
+        return pathFinder;
+    }
+
+    @Override
+    public List<Station> findPath(Station source, Station target) {
+        if (!graph.containsVertex(source) || !graph.containsVertex(target)) {
+            return null;
+        }
+
+        GraphPath<Station, DefaultWeightedEdge> path = dijkstraShortestPath.getPath(source, target);
+
+        if (Objects.isNull(path)) {
+            return null;
+        }
+
+        return path.getVertexList();
+    }
+
+    private void initGraph(StationGraph stationGraph) {
+        for (int vertex = 0; vertex < stationGraph.size(); vertex++) {
+            graph.addVertex(stationGraph.getStation(vertex));
+        }
+
+        // 구간마다 양방향 간선이 하나씩 있으므로 한 방향만 추가한다.
+        for (int vertex = 0; vertex < stationGraph.size(); vertex++) {
+            for (int edge = stationGraph.firstEdge(vertex); edge < stationGraph.endEdge(vertex); edge++) {
+                int target = stationGraph.target(edge);
+                if (vertex < target) {
+                    graph.setEdgeWeight(graph.addEdge(stationGraph.getStation(vertex), stationGraph.getStation(target)),
+                            stationGraph.weight(edge));
+                }
+            }
+        }
+    }
+
+}
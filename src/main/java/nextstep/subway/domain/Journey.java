@@ -0,0 +1,96 @@
+package nextstep.subway.domain;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class Journey {
+
+    private static final int SECONDS_PER_DAY = 24 * 60 * 60;
+
+    private final LocalTime departureTime;
+    private final List<Leg> legs;
+
+    private Journey(LocalTime departureTime, List<Leg> legs) {
+        this.departureTime = departureTime;
+        this.legs = Collections.unmodifiableList(legs);
+    }
+
+    public static Journey of(LocalTime departureTime, List<Leg> legs) {
+        return new Journey(departureTime, legs);
+    }
+
+    public List<Station> getStations() {
+        List<Station> stations = new ArrayList<>();
+        for (Leg leg : legs) {
+            List<Station> legStations = leg.getStations();
+            stations.addAll(stations.isEmpty() ? legStations : legStations.subList(1, legStations.size()));
+        }
+        return stations;
+    }
+
+    public LocalTime getDepartureTime() {
+        return departureTime;
+    }
+
+    public LocalTime getArrivalTime() {
+        return legs.get(legs.size() - 1).getArrivalTime();
+    }
+
+    public int getTransferCount() {
+        return Math.max(0, legs.size() - 1);
+    }
+
+    public List<Leg> getLegs() {
+        return legs;
+    }
+
+    public static class Leg {
+
+        private final Line line;
+        private final List<Station> stations;
+        private final int departureSecond;
+        private final int arrivalSecond;
+
+        private Leg(Line line, List<Station> stations, int departureSecond, int arrivalSecond) {
+            this.line = line;
+            this.stations = Collections.unmodifiableList(stations);
+            this.departureSecond = departureSecond;
+            this.arrivalSecond = arrivalSecond;
+        }
+
+        /**
+         * 시각은 자정부터 센 초이며, 막차가 자정을 넘겨 도착하면 다음 날 시각으로 나타낸다.
+         */
+        public static Leg of(Line line, List<Station> stations, int departureSecond, int arrivalSecond) {
+            return new Leg(line, stations, departureSecond, arrivalSecond);
+        }
+
+        public Line getLine() {
+            return line;
+        }
+
+        public List<Station> getStations() {
+            return stations;
+        }
+
+        public LocalTime getDepartureTime() {
+            return LocalTime.ofSecondOfDay(departureSecond % SECONDS_PER_DAY);
+        }
+
+        public LocalTime getArrivalTime() {
+            return LocalTime.ofSecondOfDay(arrivalSecond % SECONDS_PER_DAY);
+        }
+
+        int getDepartureSecond() {
+            return departureSecond;
+        }
+
+        int getArrivalSecond() {
+            return arrivalSecond;
+        }
+
+    }
+
+}
@@ -0,0 +1,392 @@
+package nextstep.subway.domain;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+public class KShortestPathFinder {
+
+    private final StationGraph graph;
+
+    private KShortestPathFinder(StationGraph graph) {
+        this.graph = graph;
+    }
+
+    public static KShortestPathFinder of(StationGraph graph) {
+        return new KShortestPathFinder(graph);
+    }
+
+    public List<List<Station>> findPaths(Station source, Station target, int count) {
+        int sourceIndex = graph.indexOf(source);
+        int targetIndex = graph.indexOf(target);
+        if (sourceIndex == StationGraph.NOT_FOUND || targetIndex == StationGraph.NOT_FOUND) {
+            return new ArrayList<>();
+        }
+
+        List<List<Station>> paths = new ArrayList<>();
+        for (Route route : search(sourceIndex, targetIndex, count).getRoutes()) {
+            paths.add(route.toStations());
+        }
+        return paths;
+    }
+
+    Search search(int source, int target, int count) {
+        Search search = new Search(source, target);
+        search.run(count);
+        return search;
+    }
+
+    private int edgeWeight(int from, int to) {
+        int weight = ShortestPathTree.INFINITY;
+        for (int edge = graph.firstEdge(from); edge < graph.endEdge(from); edge++) {
+            if (graph.target(edge) == to) {
+                weight = Math.min(weight, graph.weight(edge));
+            }
+        }
+        return weight;
+    }
+
+    class Route {
+
+        private final int[] vertices;
+        private final int distance;
+        private final int deviation;
+
+        private Route(int[] vertices, int distance, int deviation) {
+            this.vertices = vertices;
+            this.distance = distance;
+            this.deviation = deviation;
+        }
+
+        int getDistance() {
+            return distance;
+        }
+
+        int length() {
+            return vertices.length;
+        }
+
+        private int[] prefixDistances() {
+            int[] prefixDistances = new int[vertices.length];
+            for (int i = 1; i < vertices.length; i++) {
+                prefixDistances[i] = prefixDistances[i - 1] + edgeWeight(vertices[i - 1], vertices[i]);
+            }
+            return prefixDistances;
+        }
+
+        private int commonPrefixLength(Route other) {
+            int length = Math.min(vertices.length, other.vertices.length);
+            for (int i = 0; i < length; i++) {
+                if (vertices[i] != other.vertices[i]) {
+                    return i;
+                }
+            }
+            return length;
+        }
+
+        private List<Station> toStations() {
+            List<Station> stations = new ArrayList<>();
+            for (int vertex : vertices) {
+                stations.add(graph.getStation(vertex));
+            }
+            return stations;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Route route = (Route) o;
+            return Arrays.equals(vertices, route.vertices);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(vertices);
+        }
+
+    }
+
+    private static class Candidate {
+
+        private final Route base;
+        private final int spurIndex;
+        private final int[] detour;
+        private final int distance;
+
+        private Candidate(Route base, int spurIndex, int[] detour, int distance) {
+            this.base = base;
+            this.spurIndex = spurIndex;
+            this.detour = detour;
+            this.distance = distance;
+        }
+
+        private int getDistance() {
+            return distance;
+        }
+
+    }
+
+    /**
+     * Yen 알고리즘으로 루프 없는 경로를 짧은 순서대로 찾는다.
+     * 도착역을 루트로 한 최단 경로 트리 하나를 모든 분기(spur) 탐색이 공유한다.
+     * 트리의 거리는 막힌 역과 구간이 있어도 유효한 하한이므로 A* 휴리스틱으로 쓰고,
+     * 확정한 역에서 도착역까지의 트리 경로가 막힌 곳을 지나지 않으면 그 자리에서 탐색을 끝낸다.
+     * 새 경로가 앞선 경로에서 갈라진 지점 이전의 역은 다시 분기하지 않고(Lawler),
+     * 후보 경로는 우회 구간만 들고 있다가 선택될 때 전체 경로로 펼친다.
+     */
+    class Search {
+
+        private final int source;
+        private final int target;
+        private final ShortestPathTree targetTree;
+        private final List<Route> routes = new ArrayList<>();
+        private final IntMinHeap heap;
+        private final int[] distances;
+        private final int[] previous;
+        private final int[] visitedEpochs;
+        private final int[] rootIterations;
+        private final int[] rootPositions;
+        private final int[] bannedEpochs;
+        private final int[] cleanEpochs;
+        private final boolean[] clean;
+        private final int[] stack;
+        private int epoch;
+        private int iteration;
+        private int spurIndex;
+        private int spur;
+        private int settledCount;
+        private int spurSearchCount;
+
+        private Search(int source, int target) {
+            this.source = source;
+            this.target = target;
+            this.targetTree = ShortestPathTree.of(graph, target);
+            this.heap = new IntMinHeap(graph.size());
+            this.distances = new int[graph.size()];
+            this.previous = new int[graph.size()];
+            this.visitedEpochs = new int[graph.size()];
+            this.rootIterations = new int[graph.size()];
+            this.rootPositions = new int[graph.size()];
+            this.bannedEpochs = new int[graph.size()];
+            this.cleanEpochs = new int[graph.size()];
+            this.clean = new boolean[graph.size()];
+            this.stack = new int[graph.size()];
+            this.settledCount = targetTree.getSettledCount();
+        }
+
+        List<Route> getRoutes() {
+            return routes;
+        }
+
+        int getSettledCount() {
+            return settledCount;
+        }
+
+        int getSpurSearchCount() {
+            return spurSearchCount;
+        }
+
+        private void run(int count) {
+            if (source == target || !targetTree.isReachable(source)) {
+                return;
+            }
+
+            routes.add(new Route(treePath(source), targetTree.distance(source), 0));
+            PriorityQueue<Candidate> candidates = new PriorityQueue<>(
+                    Comparator.comparingInt(Candidate::getDistance));
+            Set<Route> seen = new HashSet<>(routes);
+
+            while (routes.size() < count) {
+                Route last = routes.get(routes.size() - 1);
+                int[] prefixDistances = last.prefixDistances();
+                int[] commonPrefixLengths = markRoot(last);
+                for (int i = last.deviation; i < last.length() - 1; i++) {
+                    Candidate candidate = spurCandidate(last, i, prefixDistances[i], commonPrefixLengths);
+                    if (candidate != null) {
+                        candidates.offer(candidate);
+                    }
+                }
+
+                Route next = pollUnseen(candidates, seen);
+                if (next == null) {
+                    return;
+                }
+                routes.add(next);
+            }
+        }
+
+        private Route pollUnseen(PriorityQueue<Candidate> candidates, Set<Route> seen) {
+            while (!candidates.isEmpty()) {
+                Route route = toRoute(candidates.poll());
+                if (seen.add(route)) {
+                    return route;
+                }
+            }
+            return null;
+        }
+
+        private int[] markRoot(Route last) {
+            iteration++;
+            for (int i = 0; i < last.length(); i++) {
+                rootIterations[last.vertices[i]] = iteration;
+                rootPositions[last.vertices[i]] = i;
+            }
+
+            int[] commonPrefixLengths = new int[routes.size()];
+            for (int i = 0; i < routes.size(); i++) {
+                commonPrefixLengths[i] = routes.get(i).commonPrefixLength(last);
+            }
+            return commonPrefixLengths;
+        }
+
+        private Candidate spurCandidate(Route last, int spurIndex, int rootDistance, int[] commonPrefixLengths) {
+            epoch++;
+            spurSearchCount++;
+            this.spurIndex = spurIndex;
+            this.spur = last.vertices[spurIndex];
+            for (int i = 0; i < routes.size(); i++) {
+                Route route = routes.get(i);
+                if (commonPrefixLengths[i] > spurIndex && route.length() > spurIndex + 1) {
+                    bannedEpochs[route.vertices[spurIndex + 1]] = epoch;
+                }
+            }
+
+            int meeting = searchSpur();
+            if (meeting == ShortestPathTree.NONE) {
+                return null;
+            }
+
+            int distance = rootDistance + distances[meeting] + targetTree.distance(meeting);
+            return new Candidate(last, spurIndex, detour(meeting), distance);
+        }
+
+        private int searchSpur() {
+            heap.clear();
+            visit(spur, 0, ShortestPathTree.NONE);
+            heap.offer(spur, targetTree.distance(spur));
+
+            while (!heap.isEmpty()) {
+                int vertex = heap.poll();
+                settledCount++;
+                if (isClean(vertex)) {
+                    return vertex;
+                }
+                relax(vertex);
+            }
+            return ShortestPathTree.NONE;
+        }
+
+        private void relax(int vertex) {
+            for (int edge = graph.firstEdge(vertex); edge < graph.endEdge(vertex); edge++) {
+                int next = graph.target(edge);
+                if (isBlocked(next) || (vertex == spur && bannedEpochs[next] == epoch)
+                        || !targetTree.isReachable(next)) {
+                    continue;
+                }
+
+                int distance = distances[vertex] + graph.weight(edge);
+                if (visitedEpochs[next] != epoch || distance < distances[next]) {
+                    visit(next, distance, vertex);
+                    heap.offer(next, distance + targetTree.distance(next));
+                }
+            }
+        }
+
+        private void visit(int vertex, int distance, int from) {
+            visitedEpochs[vertex] = epoch;
+            distances[vertex] = distance;
+            previous[vertex] = from;
+        }
+
+        private boolean isBlocked(int vertex) {
+            return vertex == spur || (rootIterations[vertex] == iteration && rootPositions[vertex] < spurIndex);
+        }
+
+        private boolean isClean(int vertex) {
+            if (vertex == spur) {
+                int next = targetTree.previous(spur);
+                return bannedEpochs[next] != epoch && isTreePathClean(next);
+            }
+            return isTreePathClean(vertex);
+        }
+
+        private boolean isTreePathClean(int vertex) {
+            int depth = 0;
+            boolean result;
+            while (true) {
+                if (cleanEpochs[vertex] == epoch) {
+                    result = clean[vertex];
+                    break;
+                }
+                if (isBlocked(vertex)) {
+                    result = false;
+                    break;
+                }
+                if (vertex == target) {
+                    result = true;
+                    break;
+                }
+                stack[depth++] = vertex;
+                vertex = targetTree.previous(vertex);
+            }
+
+            while (depth > 0) {
+                int visited = stack[--depth];
+                cleanEpochs[visited] = epoch;
+                clean[visited] = result;
+            }
+            return result;
+        }
+
+        private int[] detour(int meeting) {
+            int length = 0;
+            for (int vertex = meeting; vertex != spur; vertex = previous[vertex]) {
+                length++;
+            }
+
+            int[] detour = new int[length];
+            for (int vertex = meeting; vertex != spur; vertex = previous[vertex]) {
+                detour[--length] = vertex;
+            }
+            return detour;
+        }
+
+        private Route toRoute(Candidate candidate) {
+            int meeting = candidate.detour.length == 0
+                    ? candidate.base.vertices[candidate.spurIndex]
+                    : candidate.detour[candidate.detour.length - 1];
+            int[] tail = treePath(meeting);
+
+            int[] path = new int[candidate.spurIndex + candidate.detour.length + tail.length];
+            System.arraycopy(candidate.base.vertices, 0, path, 0, candidate.spurIndex + 1);
+            System.arraycopy(candidate.detour, 0, path, candidate.spurIndex + 1, candidate.detour.length);
+            System.arraycopy(tail, 1, path, candidate.spurIndex + 1 + candidate.detour.length, tail.length - 1);
+            return new Route(path, candidate.distance, candidate.spurIndex);
+        }
+
+        private int[] treePath(int from) {
+            int length = 1;
+            for (int vertex = from; vertex != target; vertex = targetTree.previous(vertex)) {
+                length++;
+            }
+
+            int[] path = new int[length];
+            int cursor = 0;
+            for (int vertex = from; vertex != ShortestPathTree.NONE; vertex = targetTree.previous(vertex)) {
+                path[cursor++] = vertex;
+            }
+            return path;
+        }
+
+    }
+
+}
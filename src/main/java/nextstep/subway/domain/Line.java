@@ -3,6 +3,7 @@ package nextstep.subway.domain;
 
 import javax.persistence.*;
 import java.util.List;
+import java.util.Objects;
 
 @Entity
 public class Line extends BaseEntity {
@@ -15,6 +16,8 @@ public class Line extends BaseEntity {
     private String color;
     @Embedded
     private Sections sections = new Sections();
+    @Embedded
+    private Timetable timetable = Timetable.defaults();
 
     protected Line() {
     }
@@ -34,13 +37,25 @@ public class Line extends BaseEntity {
         this.color = color;
     }
 
-    public void addSection(Station upStation, Station downStation, int distance) {
+    public void updateTimetable(Timetable timetable) {
+        this.timetable = timetable;
+    }
+
+    public SectionChanges addSection(Station upStation, Station downStation, int distance) {
         Section section = Section.of(this, upStation, downStation, distance);
-        sections.addSection(section);
+        return sections.addSection(section);
     }
 
-    public void deleteStation(Station station) {
-        sections.deleteStation(station);
+    /**
+     * 하행 종점 뒤에 이어 붙일 구간들을 검증하고 순서 값을 매긴다.
+     * 구간 목록에는 넣지 않으므로 저장은 호출하는 쪽에서 한 번에 한다.
+     */
+    public void prepareAppend(List<Section> sections) {
+        this.sections.prepareAppend(sections);
+    }
+
+    public SectionChanges deleteStation(Station station) {
+        return sections.deleteStation(station);
     }
 
     public List<Station> getStations() {
@@ -59,6 +74,14 @@ public class Line extends BaseEntity {
         return color;
     }
 
+    public Timetable getTimetable() {
+        // 시간표 컬럼이 모두 비어 있으면 JPA가 null로 읽어 오므로 기본 시간표를 쓴다.
+        if (Objects.isNull(timetable)) {
+            return Timetable.defaults();
+        }
+        return timetable;
+    }
+
     public List<Section> getAllSection() {
         return sections.getSections();
     }
@@ -0,0 +1,76 @@
+package nextstep.subway.domain;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 노선의 역 순서와 상행 종점부터의 누적 거리를 담는다.
+ * 같은 노선 위 두 역 사이의 거리는 누적 거리의 차이이므로 구간 목록을 따라가지 않고 구한다.
+ * 구간이 바뀌면 DirectRideIndex가 버리고, 바뀐 노선의 구간 목록을 한 번 훑어 다시 만든다.
+ */
+class LineDistanceIndex {
+
+    private final Station[] stations;
+    private final int[] cumulativeDistances;
+    private final Map<Station, Integer> positions;
+
+    private LineDistanceIndex(Station[] stations, int[] cumulativeDistances, Map<Station, Integer> positions) {
+        this.stations = stations;
+        this.cumulativeDistances = cumulativeDistances;
+        this.positions = positions;
+    }
+
+    static LineDistanceIndex of(List<Section> sections) {
+        if (sections.isEmpty()) {
+            return of(new Station[0], new int[0]);
+        }
+
+        Station[] stations = new Station[sections.size() + 1];
+        int[] cumulativeDistances = new int[sections.size() + 1];
+        stations[0] = sections.get(0).getUpStation();
+        for (int i = 0; i < sections.size(); i++) {
+            Section section = sections.get(i);
+            stations[i + 1] = section.getDownStation();
+            cumulativeDistances[i + 1] = cumulativeDistances[i] + section.getDistance();
+        }
+        return of(stations, cumulativeDistances);
+    }
+
+    /**
+     * 상행 종점부터 차례로 놓인 역과 각 역까지의 누적 거리로 만든다.
+     */
+    static LineDistanceIndex of(Station[] stations, int[] cumulativeDistances) {
+        Map<Station, Integer> positions = new HashMap<>();
+        for (int position = 0; position < stations.length; position++) {
+            positions.put(stations[position], position);
+        }
+        return new LineDistanceIndex(stations, cumulativeDistances, positions);
+    }
+
+    int positionOf(Station station) {
+        return positions.get(station);
+    }
+
+    boolean contains(Station station) {
+        return positions.containsKey(station);
+    }
+
+    int distance(int sourcePosition, int targetPosition) {
+        return Math.abs(cumulativeDistances[targetPosition] - cumulativeDistances[sourcePosition]);
+    }
+
+    /**
+     * source에서 target까지 타고 가며 지나는 역. 하행이든 상행이든 탄 방향대로 담는다.
+     */
+    List<Station> stationsBetween(int sourcePosition, int targetPosition) {
+        int step = sourcePosition <= targetPosition ? 1 : -1;
+        List<Station> ride = new ArrayList<>(Math.abs(targetPosition - sourcePosition) + 1);
+        for (int position = sourcePosition; position != targetPosition + step; position += step) {
+            ride.add(stations[position]);
+        }
+        return ride;
+    }
+
+}
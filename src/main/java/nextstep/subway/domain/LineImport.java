@@ -0,0 +1,114 @@
+package nextstep.subway.domain;
+
+import nextstep.subway.exception.network.InvalidLineChainException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 파일에서 읽은 노선 하나의 구간들. 구간은 파일에 적힌 순서와 상관없이 모은 뒤
+ * 역 이름만으로 상행 종점부터 하행 종점까지 한 줄로 이어 순서를 정한다.
+ * 구간을 하나씩 Sections에 더하며 검증하지 않으므로 구간 수에 비례하는 시간 한 번으로 끝난다.
+ */
+public class LineImport {
+
+    private static final int NONE = -1;
+
+    private final String name;
+    private final String color;
+    private final List<String> upStations = new ArrayList<>();
+    private final List<String> downStations = new ArrayList<>();
+    private final IntList distances = new IntList();
+    private int[] order;
+
+    private LineImport(String name, String color) {
+        this.name = name;
+        this.color = color;
+    }
+
+    public static LineImport of(String name, String color) {
+        return new LineImport(name, color);
+    }
+
+    public void addSection(String upStation, String downStation, int distance) {
+        upStations.add(upStation);
+        downStations.add(downStation);
+        distances.add(distance);
+        order = null;
+    }
+
+    /**
+     * 구간들을 상행 종점부터 차례로 잇는다. 갈림길이 있거나, 순환하거나, 끊어져 있으면 한 줄로 이을 수 없다.
+     */
+    public void orderSections() {
+        Map<String, Integer> sectionsByUpStation = new HashMap<>();
+        Set<String> downStationNames = new HashSet<>();
+        for (int i = 0; i < size(); i++) {
+            if (Objects.nonNull(sectionsByUpStation.put(upStations.get(i), i))
+                    || !downStationNames.add(downStations.get(i))) {
+                throw new InvalidLineChainException(name);
+            }
+        }
+
+        int first = NONE;
+        for (int i = 0; i < size(); i++) {
+            if (!downStationNames.contains(upStations.get(i))) {
+                if (first != NONE) {
+                    throw new InvalidLineChainException(name);
+                }
+                first = i;
+            }
+        }
+
+        int[] ordered = new int[size()];
+        int count = 0;
+        for (Integer section = first == NONE ? null : first; Objects.nonNull(section);
+             section = sectionsByUpStation.get(downStations.get(section))) {
+            ordered[count++] = section;
+        }
+        if (count != size()) {
+            throw new InvalidLineChainException(name);
+        }
+        this.order = ordered;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getColor() {
+        return color;
+    }
+
+    public int size() {
+        return distances.size();
+    }
+
+    /**
+     * orderSections로 정한 순서에서 index 번째 구간의 상행역.
+     */
+    public String getUpStation(int index) {
+        return upStations.get(sectionAt(index));
+    }
+
+    public String getDownStation(int index) {
+        return downStations.get(sectionAt(index));
+    }
+
+    public int getDistance(int index) {
+        return distances.get(sectionAt(index));
+    }
+
+    private int sectionAt(int index) {
+        if (Objects.isNull(order)) {
+            orderSections();
+        }
+        return order[index];
+    }
+
+}
@@ -1,9 +1,22 @@
 package nextstep.subway.domain;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
 
 public interface LineRepository extends JpaRepository<Line, Long> {
 
     boolean existsByName(String name);
 
+    /**
+     * 노선과 순서대로 정렬한 구간, 구간의 역을 한 번에 읽는다. 노선이 늘어도 실행하는 SQL은 하나다.
+     */
+    @Query("select distinct l from Line l "
+            + "left join fetch l.sections.sections s "
+            + "left join fetch s.upStation "
+            + "left join fetch s.downStation "
+            + "order by l.id, s.position")
+    List<Line> findAllWithSections();
+
 }
@@ -0,0 +1,130 @@
+package nextstep.subway.domain;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 노선도 전체를 한 번에 넣을 때 엔티티를 거치지 않고 역, 노선, 구간 행을 JDBC 배치로 넣는다.
+ * 영속성 컨텍스트를 거치지 않으므로 생성, 수정 시각과 기본 시간표는 여기서 직접 채운다.
+ */
+@Repository
+public class NetworkBatchRepository {
+
+    private static final int FETCH_SIZE = 1000;
+    private static final String INSERT_STATION_SQL = "insert into station (name, created_date, modified_date) "
+            + "values (?, ?, ?)";
+    private static final String INSERT_LINE_SQL = "insert into line (name, color, first_departure_time, "
+            + "last_departure_time, headway_minutes, seconds_per_distance, created_date, modified_date) "
+            + "values (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_SECTION_SQL = "insert into section "
+            + "(line_id, up_station_id, down_station_id, distance, position) values (?, ?, ?, ?, ?)";
+    private static final String DELETE_LINE_SECTIONS_SQL = "delete from section "
+            + "where line_id = (select id from line where name = ?)";
+    private static final String DELETE_LINE_SQL = "delete from line where name = ?";
+    private static final String DELETE_UNUSED_STATION_SQL = "delete from station where name = ? and not exists "
+            + "(select 1 from section s where s.up_station_id = station.id or s.down_station_id = station.id)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public NetworkBatchRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public Map<String, Long> findStationIds() {
+        return findIds("select id, name from station");
+    }
+
+    public Map<String, Long> findLineIds() {
+        return findIds("select id, name from line");
+    }
+
+    public void insertStations(List<String> names) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(names.size());
+        for (String name : names) {
+            rows.add(new Object[]{name, now, now});
+        }
+        jdbcTemplate.batchUpdate(INSERT_STATION_SQL, rows);
+    }
+
+    public void insertLines(List<LineImport> lines) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Timetable timetable = Timetable.defaults();
+        List<Object[]> rows = new ArrayList<>(lines.size());
+        for (LineImport line : lines) {
+            rows.add(new Object[]{line.getName(), line.getColor(),
+                    Time.valueOf(timetable.getFirstDepartureTime()), Time.valueOf(timetable.getLastDepartureTime()),
+                    timetable.getHeadwayMinutes(), timetable.getSecondsPerDistance(), now, now});
+        }
+        jdbcTemplate.batchUpdate(INSERT_LINE_SQL, rows);
+    }
+
+    /**
+     * 노선마다 orderSections로 정한 순서대로 POSITION을 고르게 띄워 매긴다.
+     */
+    public void insertSections(List<LineImport> lines, Map<String, Long> lineIds, Map<String, Long> stationIds) {
+        List<Object[]> rows = new ArrayList<>();
+        for (LineImport line : lines) {
+            Long lineId = lineIds.get(line.getName());
+            for (int index = 0; index < line.size(); index++) {
+                rows.add(new Object[]{lineId, stationIds.get(line.getUpStation(index)),
+                        stationIds.get(line.getDownStation(index)), line.getDistance(index),
+                        Sections.spreadPosition(index)});
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_SECTION_SQL, rows);
+    }
+
+    /**
+     * 노선 이름은 겹치지 않으므로 이름으로 노선과 그 구간을 지운다.
+     */
+    public void deleteLines(List<String> names) {
+        List<Object[]> rows = toRows(names);
+        jdbcTemplate.batchUpdate(DELETE_LINE_SECTIONS_SQL, rows);
+        jdbcTemplate.batchUpdate(DELETE_LINE_SQL, rows);
+    }
+
+    /**
+     * 그사이 다른 노선의 구간이 쓰기 시작한 역은 남겨 둔다.
+     */
+    public void deleteUnusedStations(List<String> names) {
+        jdbcTemplate.batchUpdate(DELETE_UNUSED_STATION_SQL, toRows(names));
+    }
+
+    private List<Object[]> toRows(List<String> names) {
+        List<Object[]> rows = new ArrayList<>(names.size());
+        for (String name : names) {
+            rows.add(new Object[]{name});
+        }
+        return rows;
+    }
+
+    private Map<String, Long> findIds(String sql) {
+        Map<String, Long> ids = new HashMap<>();
+        jdbcTemplate.query(connection -> prepareStatement(connection, sql), resultSet -> {
+            ids.put(resultSet.getString("name"), resultSet.getLong("id"));
+        });
+        return ids;
+    }
+
+    /**
+     * 역과 노선 전체를 읽으므로 공유하는 JdbcTemplate의 설정은 두고 이 조회에만 가져올 행 수를 정한다.
+     */
+    private static PreparedStatement prepareStatement(Connection connection, String sql) throws SQLException {
+        PreparedStatement statement = connection.prepareStatement(sql);
+        statement.setFetchSize(FETCH_SIZE);
+        return statement;
+    }
+
+}
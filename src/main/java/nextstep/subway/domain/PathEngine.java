@@ -0,0 +1,29 @@
+package nextstep.subway.domain;
+
+import java.util.Locale;
+import java.util.function.Function;
+
+public enum PathEngine {
+
+    JGRAPHT(JgraphtPathFinder::of),
+    CSR(CsrPathFinder::of),
+    ALL_PAIRS(AllPairsPathFinder::of),
+    BIDIRECTIONAL(BidirectionalPathFinder::of),
+    ALT(AltPathFinder::of),
+    CONTRACTION_HIERARCHY(ContractionHierarchyPathFinder::of);
+
+    private final Function<StationGraph, PathFinder> pathFinderFactory;
+
+    PathEngine(Function<StationGraph, PathFinder> pathFinderFactory) {
+        this.pathFinderFactory = pathFinderFactory;
+    }
+
+    public static PathEngine of(String name) {
+        return valueOf(name.trim().toUpperCase(Locale.ROOT));
+    }
+
+    public PathFinder createPathFinder(StationGraph graph) {
+        return pathFinderFactory.apply(graph);
+    }
+
+}
@@ -0,0 +1,15 @@
+package nextstep.subway.domain;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+public interface PathFinder {
+
+    List<Station> findPath(Station source, Station target);
+
+    default Map<String, Long> getStatistics() {
+        return Collections.emptyMap();
+    }
+
+}
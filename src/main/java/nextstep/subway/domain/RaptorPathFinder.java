@@ -0,0 +1,353 @@
+package nextstep.subway.domain;
+
+import nextstep.subway.exception.path.NotFoundPathException;
+import nextstep.subway.exception.path.SameStationException;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 시간표를 따라 가장 빨리 도착하는 경로를 라운드 단위(RAPTOR)로 찾는다.
+ * 노선마다 하행과 상행 두 개의 운행 경로(route)를 만들고, k번째 라운드에서는 열차를 k번 타서 도착할 수 있는 시각을 구한다.
+ * 한 운행 경로의 열차는 모두 같은 운행 시간으로 달리므로 앞지르지 않고, 역마다 탈 수 있는 가장 이른 열차를 이분 탐색으로 찾는다.
+ * 정차 순서, 종점 출발 후 경과 시간, 종점 출발 시각은 모두 운행 경로 순서로 이어 붙인 배열에 둔다.
+ */
+public class RaptorPathFinder {
+
+    public static final int MAX_TRANSFER_COUNT = 7;
+
+    private static final int MAX_ROUNDS = MAX_TRANSFER_COUNT + 1;
+    private static final int INFINITY = Integer.MAX_VALUE;
+    private static final int NONE = -1;
+
+    private final Station[] stations;
+    private final Map<Station, Integer> stationIndexes;
+    private final Line[] routeLines;
+    private final int[] routeStopOffsets;
+    private final int[] routeStops;
+    private final int[] routeStopTimes;
+    private final int[] routeTripOffsets;
+    private final int[] tripDepartures;
+    private final int[] stationRouteOffsets;
+    private final int[] stationRoutes;
+    private final int[] stationRoutePositions;
+
+    private RaptorPathFinder(Builder builder) {
+        this.stations = builder.stations.toArray(new Station[0]);
+        this.stationIndexes = builder.stationIndexes;
+        this.routeLines = builder.routeLines.toArray(new Line[0]);
+        this.routeStopOffsets = builder.routeStopOffsets.toArray();
+        this.routeStops = builder.routeStops.toArray();
+        this.routeStopTimes = builder.routeStopTimes.toArray();
+        this.routeTripOffsets = builder.routeTripOffsets.toArray();
+        this.tripDepartures = builder.tripDepartures.toArray();
+
+        int[] counts = new int[stations.length + 1];
+        for (int stop : routeStops) {
+            counts[stop + 1]++;
+        }
+        for (int i = 0; i < stations.length; i++) {
+            counts[i + 1] += counts[i];
+        }
+        this.stationRouteOffsets = counts;
+        this.stationRoutes = new int[routeStops.length];
+        this.stationRoutePositions = new int[routeStops.length];
+        int[] cursors = Arrays.copyOf(counts, stations.length);
+        for (int route = 0; route < routeLines.length; route++) {
+            for (int stop = routeStopOffsets[route]; stop < routeStopOffsets[route + 1]; stop++) {
+                int cursor = cursors[routeStops[stop]]++;
+                stationRoutes[cursor] = route;
+                stationRoutePositions[cursor] = stop - routeStopOffsets[route];
+            }
+        }
+    }
+
+    public static RaptorPathFinder of(List<Line> lines) {
+        Builder builder = new Builder();
+        for (Line line : lines) {
+            builder.addLine(line);
+        }
+        return new RaptorPathFinder(builder);
+    }
+
+    public Journey findJourney(Station source, Station target, LocalTime departureTime) {
+        if (Objects.equals(source, target)) {
+            throw new SameStationException();
+        }
+
+        Integer sourceIndex = stationIndexes.get(source);
+        Integer targetIndex = stationIndexes.get(target);
+        if (Objects.isNull(sourceIndex) || Objects.isNull(targetIndex)) {
+            throw new NotFoundPathException(source.getName(), target.getName());
+        }
+
+        Search search = new Search(sourceIndex, targetIndex);
+        search.run(departureTime.toSecondOfDay());
+        if (search.targetRound == NONE) {
+            throw new NotFoundPathException(source.getName(), target.getName());
+        }
+        return Journey.of(departureTime, search.legs());
+    }
+
+    public Map<String, Long> getStatistics() {
+        Map<String, Long> statistics = new LinkedHashMap<>();
+        statistics.put("stations", (long) stations.length);
+        statistics.put("routes", (long) routeLines.length);
+        statistics.put("routeStops", (long) routeStops.length);
+        statistics.put("trips", (long) tripDepartures.length);
+        return statistics;
+    }
+
+    private int stopTime(int route, int position) {
+        return routeStopTimes[routeStopOffsets[route] + position];
+    }
+
+    private int stopStation(int route, int position) {
+        return routeStops[routeStopOffsets[route] + position];
+    }
+
+    private int routeLength(int route) {
+        return routeStopOffsets[route + 1] - routeStopOffsets[route];
+    }
+
+    /**
+     * 종점을 earliestDeparture 이후에 출발하는 첫 열차의 출발 시각. 없으면 NONE.
+     */
+    private int earliestTrip(int route, int earliestDeparture) {
+        int low = routeTripOffsets[route];
+        int high = routeTripOffsets[route + 1];
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (tripDepartures[middle] < earliestDeparture) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low == routeTripOffsets[route + 1] ? NONE : tripDepartures[low];
+    }
+
+    private class Search {
+
+        private final int source;
+        private final int target;
+        private final int[] best;
+        private final List<int[]> arrivals = new ArrayList<>();
+        private final List<int[]> parentRoutes = new ArrayList<>();
+        private final List<int[]> parentBoardPositions = new ArrayList<>();
+        private final List<int[]> parentAlightPositions = new ArrayList<>();
+        private final List<int[]> parentTrips = new ArrayList<>();
+        private final boolean[] marked;
+        private final int[] markedStations;
+        private final int[] routeRounds;
+        private final int[] routeStartPositions;
+        private final int[] queuedRoutes;
+        private int markedCount;
+        private int targetRound = NONE;
+
+        private Search(int source, int target) {
+            this.source = source;
+            this.target = target;
+            this.best = new int[stations.length];
+            this.marked = new boolean[stations.length];
+            this.markedStations = new int[stations.length];
+            this.routeRounds = new int[routeLines.length];
+            this.routeStartPositions = new int[routeLines.length];
+            this.queuedRoutes = new int[routeLines.length];
+            Arrays.fill(best, INFINITY);
+        }
+
+        private void run(int departure) {
+            int[] initial = newRound(null);
+            initial[source] = departure;
+            best[source] = departure;
+            mark(source);
+
+            for (int round = 1; round <= MAX_ROUNDS && markedCount > 0; round++) {
+                int[] previous = arrivals.get(round - 1);
+                newRound(previous);
+                int routeCount = collectRoutes(round);
+                for (int i = 0; i < routeCount; i++) {
+                    scanRoute(round, queuedRoutes[i], previous);
+                }
+            }
+        }
+
+        private int[] newRound(int[] previous) {
+            int[] round = Objects.isNull(previous) ? new int[stations.length] : Arrays.copyOf(previous, previous.length);
+            if (Objects.isNull(previous)) {
+                Arrays.fill(round, INFINITY);
+            }
+            int[] routes = new int[stations.length];
+            Arrays.fill(routes, NONE);
+
+            arrivals.add(round);
+            parentRoutes.add(routes);
+            parentBoardPositions.add(new int[stations.length]);
+            parentAlightPositions.add(new int[stations.length]);
+            parentTrips.add(new int[stations.length]);
+            return round;
+        }
+
+        private int collectRoutes(int round) {
+            int routeCount = 0;
+            for (int i = 0; i < markedCount; i++) {
+                int station = markedStations[i];
+                marked[station] = false;
+                for (int j = stationRouteOffsets[station]; j < stationRouteOffsets[station + 1]; j++) {
+                    int route = stationRoutes[j];
+                    int position = stationRoutePositions[j];
+                    if (routeRounds[route] != round) {
+                        routeRounds[route] = round;
+                        routeStartPositions[route] = position;
+                        queuedRoutes[routeCount++] = route;
+                    } else if (position < routeStartPositions[route]) {
+                        routeStartPositions[route] = position;
+                    }
+                }
+            }
+            markedCount = 0;
+            return routeCount;
+        }
+
+        private void scanRoute(int round, int route, int[] previous) {
+            int[] current = arrivals.get(round);
+            int trip = NONE;
+            int boardPosition = NONE;
+            for (int position = routeStartPositions[route]; position < routeLength(route); position++) {
+                int station = stopStation(route, position);
+                int stopTime = stopTime(route, position);
+
+                if (trip != NONE) {
+                    int arrival = trip + stopTime;
+                    if (arrival < best[station] && arrival < best[target]) {
+                        current[station] = arrival;
+                        best[station] = arrival;
+                        parentRoutes.get(round)[station] = route;
+                        parentBoardPositions.get(round)[station] = boardPosition;
+                        parentAlightPositions.get(round)[station] = position;
+                        parentTrips.get(round)[station] = trip;
+                        mark(station);
+                        if (station == target) {
+                            targetRound = round;
+                        }
+                    }
+                }
+
+                // 이전 라운드에 이 역에 도착했다면 지금 열차보다 이른 열차로 갈아탈 수 있는지 본다.
+                int ready = previous[station];
+                if (ready != INFINITY && (trip == NONE || ready < trip + stopTime)) {
+                    int earlierTrip = earliestTrip(route, ready - stopTime);
+                    if (earlierTrip != NONE && (trip == NONE || earlierTrip < trip)) {
+                        trip = earlierTrip;
+                        boardPosition = position;
+                    }
+                }
+            }
+        }
+
+        private void mark(int station) {
+            if (!marked[station]) {
+                marked[station] = true;
+                markedStations[markedCount++] = station;
+            }
+        }
+
+        private List<Journey.Leg> legs() {
+            List<Journey.Leg> legs = new ArrayList<>();
+            int station = target;
+            int round = targetRound;
+            while (station != source) {
+                while (parentRoutes.get(round)[station] == NONE) {
+                    round--;
+                }
+                int route = parentRoutes.get(round)[station];
+                int boardPosition = parentBoardPositions.get(round)[station];
+                int alightPosition = parentAlightPositions.get(round)[station];
+                int trip = parentTrips.get(round)[station];
+
+                List<Station> legStations = new ArrayList<>();
+                for (int position = boardPosition; position <= alightPosition; position++) {
+                    legStations.add(stations[stopStation(route, position)]);
+                }
+                legs.add(0, Journey.Leg.of(routeLines[route], legStations,
+                        trip + stopTime(route, boardPosition), trip + stopTime(route, alightPosition)));
+
+                station = stopStation(route, boardPosition);
+                round--;
+            }
+            return legs;
+        }
+
+    }
+
+    private static class Builder {
+
+        private final List<Station> stations = new ArrayList<>();
+        private final Map<Station, Integer> stationIndexes = new HashMap<>();
+        private final List<Line> routeLines = new ArrayList<>();
+        private final IntList routeStopOffsets = new IntList();
+        private final IntList routeStops = new IntList();
+        private final IntList routeStopTimes = new IntList();
+        private final IntList routeTripOffsets = new IntList();
+        private final IntList tripDepartures = new IntList();
+
+        private Builder() {
+            routeStopOffsets.add(0);
+            routeTripOffsets.add(0);
+        }
+
+        private void addLine(Line line) {
+            List<Section> sections = line.getAllSection();
+            if (sections.isEmpty()) {
+                return;
+            }
+
+            Timetable timetable = line.getTimetable();
+            int[] departures = timetable.getDepartureSeconds();
+            int[] stops = new int[sections.size() + 1];
+            int[] times = new int[sections.size() + 1];
+            stops[0] = indexOf(sections.get(0).getUpStation());
+            for (int i = 0; i < sections.size(); i++) {
+                Section section = sections.get(i);
+                stops[i + 1] = indexOf(section.getDownStation());
+                times[i + 1] = times[i] + section.getDistance() * timetable.getSecondsPerDistance();
+            }
+
+            addRoute(line, stops, times, departures, false);
+            addRoute(line, stops, times, departures, true);
+        }
+
+        private void addRoute(Line line, int[] stops, int[] times, int[] departures, boolean reverse) {
+            int last = stops.length - 1;
+            for (int i = 0; i <= last; i++) {
+                routeStops.add(reverse ? stops[last - i] : stops[i]);
+                routeStopTimes.add(reverse ? times[last] - times[last - i] : times[i]);
+            }
+            for (int departure : departures) {
+                tripDepartures.add(departure);
+            }
+            routeLines.add(line);
+            routeStopOffsets.add(routeStops.size());
+            routeTripOffsets.add(tripDepartures.size());
+        }
+
+        private int indexOf(Station station) {
+            Integer index = stationIndexes.get(station);
+            if (Objects.isNull(index)) {
+                index = stations.size();
+                stations.add(station);
+                stationIndexes.put(station, index);
+            }
+            return index;
+        }
+
+    }
+
+}
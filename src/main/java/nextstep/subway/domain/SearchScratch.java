@@ -0,0 +1,74 @@
+package nextstep.subway.domain;
+
+import java.util.Arrays;
+
+/**
+ * 스레드마다 하나씩 두고 재사용하는 탐색용 배열.
+ * 방문 여부는 탐색마다 증가하는 epoch로 표시하므로 탐색 사이에 배열을 비우지 않는다.
+ * 같은 스레드에서 탐색이 끝나기 전에 다시 acquire 하면 안 된다.
+ */
+final class SearchScratch {
+
+    private static final ThreadLocal<SearchScratch> SCRATCH = ThreadLocal.withInitial(SearchScratch::new);
+
+    private int[] distances = new int[0];
+    private int[] previous = new int[0];
+    private int[] visitedEpochs = new int[0];
+    private int[] path = new int[0];
+    private IntMinHeap heap = new IntMinHeap(0);
+    private int epoch;
+
+    private SearchScratch() {
+    }
+
+    static SearchScratch acquire(int size) {
+        SearchScratch scratch = SCRATCH.get();
+        scratch.prepare(size);
+        return scratch;
+    }
+
+    private void prepare(int size) {
+        if (visitedEpochs.length < size) {
+            distances = new int[size];
+            previous = new int[size];
+            visitedEpochs = new int[size];
+            path = new int[size];
+            heap = new IntMinHeap(size);
+            epoch = 0;
+        }
+
+        heap.clear();
+        epoch++;
+        if (epoch == 0) {
+            Arrays.fill(visitedEpochs, 0);
+            epoch = 1;
+        }
+    }
+
+    boolean isVisited(int vertex) {
+        return visitedEpochs[vertex] == epoch;
+    }
+
+    int distance(int vertex) {
+        return isVisited(vertex) ? distances[vertex] : ShortestPathTree.INFINITY;
+    }
+
+    int previous(int vertex) {
+        return previous[vertex];
+    }
+
+    void visit(int vertex, int distance, int from) {
+        visitedEpochs[vertex] = epoch;
+        distances[vertex] = distance;
+        previous[vertex] = from;
+    }
+
+    IntMinHeap heap() {
+        return heap;
+    }
+
+    int[] path() {
+        return path;
+    }
+
+}
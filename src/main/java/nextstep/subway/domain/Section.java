@@ -24,6 +24,7 @@ public class Section {
     @JoinColumn(name = "down_station_id")
     private Station downStation;
     private int distance;
+    private long position;
 
     protected Section() {
     }
@@ -65,6 +66,24 @@ public class Section {
         return distance;
     }
 
+    /**
+     * 구간을 나누거나 합칠 때 새 구간으로 바꾸지 않고 이 구간의 역과 거리를 고쳐 UPDATE 한 번으로 반영한다.
+     */
+    void change(Station upStation, Station downStation, int distance) {
+        validateDistance(distance);
+        this.upStation = upStation;
+        this.downStation = downStation;
+        this.distance = distance;
+    }
+
+    long getPosition() {
+        return position;
+    }
+
+    void changePosition(long position) {
+        this.position = position;
+    }
+
     private boolean isContainStation(Station station) {
         return Objects.equals(this.upStation, station)
                 || Objects.equals(this.downStation, station);
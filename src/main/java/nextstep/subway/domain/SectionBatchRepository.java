@@ -0,0 +1,41 @@
+package nextstep.subway.domain;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.List;
+
+/**
+ * 구간 id는 IDENTITY로 만들어 Hibernate가 INSERT를 묶어 보내지 못하므로 JDBC 배치로 한 번에 넣는다.
+ */
+@Repository
+public class SectionBatchRepository {
+
+    private static final String INSERT_SQL = "insert into section "
+            + "(line_id, up_station_id, down_station_id, distance, position) values (?, ?, ?, ?, ?)";
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public SectionBatchRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void appendAll(Line line, List<Section> sections) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, sections, BATCH_SIZE, (statement, section) -> {
+            statement.setLong(1, section.getLine().getId());
+            statement.setLong(2, section.getUpStation().getId());
+            statement.setLong(3, section.getDownStation().getId());
+            statement.setInt(4, section.getDistance());
+            statement.setLong(5, section.getPosition());
+        });
+
+        // 영속성 컨텍스트의 노선은 JDBC로 넣은 구간을 모르므로 다음에 읽을 때 다시 읽게 한다.
+        entityManager.refresh(line);
+    }
+
+}
@@ -0,0 +1,41 @@
+package nextstep.subway.domain;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class SectionChanges {
+
+    private final List<Section> removedSections;
+    private final List<Section> addedSections;
+
+    private SectionChanges(List<Section> removedSections, List<Section> addedSections) {
+        this.removedSections = Collections.unmodifiableList(new ArrayList<>(removedSections));
+        this.addedSections = Collections.unmodifiableList(new ArrayList<>(addedSections));
+    }
+
+    public static SectionChanges of(List<Section> removedSections, List<Section> addedSections) {
+        return new SectionChanges(removedSections, addedSections);
+    }
+
+    public static SectionChanges added(List<Section> sections) {
+        return new SectionChanges(Collections.emptyList(), sections);
+    }
+
+    public static SectionChanges added(Section section) {
+        return added(Collections.singletonList(section));
+    }
+
+    public static SectionChanges removed(Section section) {
+        return new SectionChanges(Collections.singletonList(section), Collections.emptyList());
+    }
+
+    public List<Section> getRemovedSections() {
+        return removedSections;
+    }
+
+    public List<Section> getAddedSections() {
+        return addedSections;
+    }
+
+}
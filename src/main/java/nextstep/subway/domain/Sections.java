@@ -8,10 +8,16 @@ import nextstep.subway.exception.section.NotFoundConnectStationException;
 import javax.persistence.CascadeType;
 import javax.persistence.Embeddable;
 import javax.persistence.OneToMany;
-import javax.persistence.OrderColumn;
+import javax.persistence.OrderBy;
+import javax.persistence.Transient;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Embeddable
@@ -20,39 +26,71 @@ public class Sections {
     private static final int NEXT_VALUE = 1;
     private static final int FIRST_INDEX = 0;
     private static final int MINIMUM_SIZE_SECTION = 1;
+    private static final long POSITION_GAP = 1L << 16;
+    private static final long MINIMUM_POSITION_GAP = 2;
 
+    /**
+     * 구간 순서는 POSITION 값의 크기로 정한다. 값 사이를 띄워 두므로 구간을 끼워 넣어도 뒤 구간들의 POSITION은 그대로다.
+     */
     @OneToMany(mappedBy = "line", cascade = {CascadeType.PERSIST, CascadeType.MERGE}, orphanRemoval = true)
-    @OrderColumn(name = "POSITION")
+    @OrderBy("position ASC")
     private List<Section> sections = new ArrayList<>();
+    @Transient
+    private Map<Station, Section> upSections;
+    @Transient
+    private Map<Station, Section> downSections;
 
     protected Sections() {
     }
 
-    public void addSection(Section section) {
+    public SectionChanges addSection(Section section) {
         if (isEmpty()) {
-            sections.add(section);
-            return;
+            insert(sections.size(), section);
+            return SectionChanges.added(section);
         }
 
         validateAddSection(section);
 
         if (isAddableEndSection(section)) {
             addEndSection(section);
-            return;
+            return SectionChanges.added(section);
         }
 
-        addMiddleSection(section);
+        return addMiddleSection(section);
+    }
+
+    /**
+     * 하행 종점부터 이어지는 구간들을 한 번 훑어 검증하고 순서 값을 매긴다. 구간 목록에는 넣지 않는다.
+     * 구간은 JDBC로 넣으므로 검증을 마친 뒤 이 구간 목록으로 만든 역 색인을 버려 다음에 다시 만들게 한다.
+     */
+    public void prepareAppend(List<Section> appendedSections) {
+        Station lastStation = getLastDownStation();
+        long position = sections.get(sections.size() - NEXT_VALUE).getPosition();
+        Set<Station> appendedStations = new HashSet<>();
+        for (Section section : appendedSections) {
+            if (!Objects.equals(section.getUpStation(), lastStation)) {
+                throw new NotFoundConnectStationException();
+            }
+            if (contains(section.getDownStation()) || !appendedStations.add(section.getDownStation())) {
+                throw new AlreadyRegisteredStationException();
+            }
+
+            position += POSITION_GAP;
+            section.changePosition(position);
+            lastStation = section.getDownStation();
+        }
+        upSections = null;
+        downSections = null;
     }
 
-    public void deleteStation(Station station) {
+    public SectionChanges deleteStation(Station station) {
         validateMinimumSection();
 
         if (isEndStation(station)) {
-            deleteEndStation(station);
-            return;
+            return deleteEndStation(station);
         }
 
-        deleteMiddleStation(station);
+        return deleteMiddleStation(station);
     }
 
     public List<Station> getAllStations() {
@@ -77,76 +115,81 @@ public class Sections {
         addLastSection(section);
     }
 
-    private void addMiddleSection(Section section) {
+    private SectionChanges addMiddleSection(Section section) {
         if (isAddableMiddleUpSection(section)) {
-            addMiddleUpSection(section);
-            return;
+            return addMiddleUpSection(section);
         }
 
-        addMiddleDownSection(section);
+        return addMiddleDownSection(section);
     }
 
-    private void addMiddleUpSection(Section section) {
-        Section registeredSection = getRegisteredSection(section);
+    private SectionChanges addMiddleUpSection(Section section) {
+        Section registeredSection = getSectionIncludeDownStation(section.getDownStation());
         validateDistance(registeredSection, section);
 
-        Line line = section.getLine();
-        int index = sections.indexOf(registeredSection);
+        Section replacedSection = Section.of(section.getLine(), registeredSection);
+        int index = indexOf(registeredSection);
         int newSectionDistance = registeredSection.getDistance() - section.getDistance();
 
-        sections.set(index, Section.of(line, registeredSection.getUpStation(), section.getUpStation(), newSectionDistance));
-        sections.add(index + NEXT_VALUE, Section.of(line, section));
+        change(registeredSection, registeredSection.getUpStation(), section.getUpStation(), newSectionDistance);
+        insert(index + NEXT_VALUE, section);
+
+        return SectionChanges.of(Arrays.asList(replacedSection), Arrays.asList(registeredSection, section));
     }
 
-    private void addMiddleDownSection(Section section) {
-        Section registeredDownSection = getRegisteredSection(section);
+    private SectionChanges addMiddleDownSection(Section section) {
+        Section registeredDownSection = getSectionIncludeUpStation(section.getUpStation());
         validateDistance(registeredDownSection, section);
 
-        Line line = section.getLine();
-        int index = sections.indexOf(registeredDownSection);
+        Section replacedSection = Section.of(section.getLine(), registeredDownSection);
+        int index = indexOf(registeredDownSection);
         int newSectionDistance = registeredDownSection.getDistance() - section.getDistance();
 
-        sections.set(index, Section.of(line, section));
-        sections.add(index + NEXT_VALUE, Section.of(line, section.getDownStation(), registeredDownSection.getDownStation(), newSectionDistance));
+        change(registeredDownSection, section.getDownStation(), registeredDownSection.getDownStation(), newSectionDistance);
+        insert(index, section);
+
+        return SectionChanges.of(Arrays.asList(replacedSection), Arrays.asList(section, registeredDownSection));
     }
 
     private void addFirstSection(Section section) {
-        sections.add(FIRST_INDEX, section);
+        insert(FIRST_INDEX, section);
     }
 
     private void addLastSection(Section section) {
-        sections.add(section);
+        insert(sections.size(), section);
     }
 
-    private void deleteEndStation(Station station) {
+    private SectionChanges deleteEndStation(Station station) {
         if (isFirstStation(station)) {
-            deleteFirstStation();
-            return;
+            return deleteFirstStation();
         }
 
-        deleteLastStation();
+        return deleteLastStation();
     }
 
-    private void deleteFirstStation() {
-        sections.remove(FIRST_INDEX);
+    private SectionChanges deleteFirstStation() {
+        Section removeSection = remove(FIRST_INDEX);
+        return SectionChanges.removed(removeSection);
     }
 
-    private void deleteLastStation() {
+    private SectionChanges deleteLastStation() {
         int lastIndex = sections.size() - NEXT_VALUE;
-        sections.remove(lastIndex);
+        Section removeSection = remove(lastIndex);
+        return SectionChanges.removed(removeSection);
     }
 
-    private void deleteMiddleStation(Station station) {
+    private SectionChanges deleteMiddleStation(Station station) {
         Section section = getSectionIncludeDownStation(station);
-        Line line = section.getLine();
+        Section removeSection = getSectionIncludeUpStation(station);
 
-        int index = sections.indexOf(section);
-        Section removeSection = sections.get(index + NEXT_VALUE);
+        Section replacedSection = Section.of(section.getLine(), section);
+        int index = indexOf(section);
         int distance = section.getDistance() + removeSection.getDistance();
 
-        Section newSection = Section.of(line, section.getUpStation(), removeSection.getDownStation(), distance);
-        sections.set(index, newSection);
-        sections.remove(index + NEXT_VALUE);
+        Section removedSection = remove(index + NEXT_VALUE);
+        change(section, section.getUpStation(), removedSection.getDownStation(), distance);
+
+        return SectionChanges.of(Arrays.asList(replacedSection, removedSection), Arrays.asList(section));
     }
 
     private void validateDistance(Section oldSection, Section newSection) {
@@ -161,17 +204,15 @@ public class Sections {
     }
 
     private void validateAlreadyRegisteredSection(Section section) {
-        List<Station> stations = getAllStations();
-        if (stations.contains(section.getUpStation())
-                && stations.contains(section.getDownStation())) {
+        if (contains(section.getUpStation())
+                && contains(section.getDownStation())) {
             throw new AlreadyRegisteredStationException();
         }
     }
 
     private void validateConnectStation(Section section) {
-        List<Station> stations = getAllStations();
-        if (!stations.contains(section.getUpStation())
-                && !stations.contains(section.getDownStation())) {
+        if (!contains(section.getUpStation())
+                && !contains(section.getDownStation())) {
             throw new NotFoundConnectStationException();
         }
     }
@@ -183,9 +224,7 @@ public class Sections {
     }
 
     private boolean isAddableMiddleUpSection(Section section) {
-        Station downStation = section.getDownStation();
-        return getAllStations().stream()
-                .anyMatch(it -> Objects.equals(it, downStation));
+        return contains(section.getDownStation());
     }
 
     private boolean isAddableEndSection(Section section) {
@@ -217,18 +256,159 @@ public class Sections {
         return Objects.equals(lastDownStation, station);
     }
 
-    private Section getRegisteredSection(Section section) {
-        return sections.stream()
-                .filter(it -> it.isContainSection(section))
-                .findAny()
-                .orElseThrow(NotFoundConnectStationException::new);
+    private Section getSectionIncludeUpStation(Station station) {
+        Section section = getUpSections().get(station);
+        if (Objects.isNull(section)) {
+            throw new NotFoundConnectStationException();
+        }
+        return section;
     }
 
     private Section getSectionIncludeDownStation(Station station) {
-        return sections.stream()
-                .filter(it -> Objects.equals(it.getDownStation(), station))
-                .findFirst()
-                .orElseThrow(NotFoundConnectStationException::new);
+        Section section = getDownSections().get(station);
+        if (Objects.isNull(section)) {
+            throw new NotFoundConnectStationException();
+        }
+        return section;
+    }
+
+    private boolean contains(Station station) {
+        return getUpSections().containsKey(station) || getDownSections().containsKey(station);
+    }
+
+    /**
+     * 구간 목록은 POSITION 순이므로 POSITION으로 이분 탐색한다.
+     * Section은 id로 비교하므로 아직 저장되지 않은 구간끼리는 equals로 구분할 수 없다. 구간은 같은 객체인지로 확인하고,
+     * POSITION이 겹치는 예전 데이터라 찾지 못했을 때만 처음부터 훑는다.
+     */
+    private int indexOf(Section section) {
+        int low = FIRST_INDEX;
+        int high = sections.size() - NEXT_VALUE;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            Section middleSection = sections.get(middle);
+            if (middleSection == section) {
+                return middle;
+            }
+            if (middleSection.getPosition() < section.getPosition()) {
+                low = middle + NEXT_VALUE;
+            } else if (middleSection.getPosition() > section.getPosition()) {
+                high = middle - NEXT_VALUE;
+            } else {
+                break;
+            }
+        }
+
+        for (int index = 0; index < sections.size(); index++) {
+            if (sections.get(index) == section) {
+                return index;
+            }
+        }
+        throw new NotFoundConnectStationException();
+    }
+
+    private void insert(int index, Section section) {
+        section.changePosition(positionAt(index));
+        sections.add(index, section);
+        register(section);
+    }
+
+    /**
+     * 구간의 역이 바뀌므로 색인에서 뺐다가 바뀐 역으로 다시 넣는다.
+     */
+    private void change(Section section, Station upStation, Station downStation, int distance) {
+        unregister(section);
+        section.change(upStation, downStation, distance);
+        register(section);
+    }
+
+    private Section remove(int index) {
+        Section removedSection = sections.remove(index);
+        unregister(removedSection);
+        return removedSection;
+    }
+
+    /**
+     * index 자리에 들어갈 구간의 POSITION. 앞뒤 구간 사이에 끼워 넣을 틈이 없을 때만 노선 전체를 다시 띄워 매긴다.
+     */
+    private long positionAt(int index) {
+        boolean hasPrevious = index > FIRST_INDEX;
+        boolean hasNext = index < sections.size();
+        if (!hasPrevious && !hasNext) {
+            return 0;
+        }
+        if (!hasPrevious) {
+            return sections.get(index).getPosition() - POSITION_GAP;
+        }
+
+        long previousPosition = sections.get(index - NEXT_VALUE).getPosition();
+        if (!hasNext) {
+            return previousPosition + POSITION_GAP;
+        }
+
+        long nextPosition = sections.get(index).getPosition();
+        if (nextPosition - previousPosition < MINIMUM_POSITION_GAP) {
+            spreadPositions();
+            return positionAt(index);
+        }
+        return previousPosition + (nextPosition - previousPosition) / 2;
+    }
+
+    private void spreadPositions() {
+        for (int index = 0; index < sections.size(); index++) {
+            sections.get(index).changePosition(spreadPosition(index));
+        }
+    }
+
+    /**
+     * 구간 사이를 고르게 띄웠을 때 index 번째 구간의 POSITION.
+     */
+    static long spreadPosition(int index) {
+        return index * POSITION_GAP;
+    }
+
+    private void register(Section section) {
+        getUpSections().put(section.getUpStation(), section);
+        getDownSections().put(section.getDownStation(), section);
+    }
+
+    private void unregister(Section section) {
+        unregister(getUpSections(), section.getUpStation(), section);
+        unregister(getDownSections(), section.getDownStation(), section);
+    }
+
+    private void unregister(Map<Station, Section> stationSections, Station station, Section section) {
+        // 같은 역에 새 구간을 먼저 등록했을 수 있으므로 지우려는 구간이 그대로 있을 때만 지운다.
+        if (stationSections.get(station) == section) {
+            stationSections.remove(station);
+        }
+    }
+
+    private Map<Station, Section> getUpSections() {
+        indexStations();
+        return upSections;
+    }
+
+    private Map<Station, Section> getDownSections() {
+        indexStations();
+        return downSections;
+    }
+
+    /**
+     * 역마다 그 역에서 출발하는 구간과 그 역에 도착하는 구간을 둔다. DB에서 읽어 온 뒤 처음 쓸 때 한 번 만들고,
+     * 이후에는 구간을 더하고 뺄 때마다 함께 고친다.
+     */
+    private void indexStations() {
+        if (Objects.nonNull(upSections)) {
+            return;
+        }
+
+        upSections = new HashMap<>();
+        downSections = new HashMap<>();
+        for (Section section : sections) {
+            upSections.put(section.getUpStation(), section);
+            downSections.put(section.getDownStation(), section);
+        }
     }
 
     private Station getFirstUpStation() {
@@ -1,58 +1,105 @@
 package nextstep.subway.domain;
 
+import nextstep.subway.exception.path.InvalidMaxDistanceException;
+import nextstep.subway.exception.path.InvalidPathCountException;
 import nextstep.subway.exception.path.NotFoundPathException;
 import nextstep.subway.exception.path.SameStationException;
-import org.jgrapht.GraphPath;
-import org.jgrapht.alg.shortestpath.DijkstraShortestPath;
-import org.jgrapht.graph.DefaultWeightedEdge;
-import org.jgrapht.graph.WeightedMultigraph;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 public class ShortestPathChecker {
 
-    private WeightedMultigraph<Station, DefaultWeightedEdge> graph;
-    private DijkstraShortestPath<Station, DefaultWeightedEdge> dijkstraShortestPath;
+    public static final int MAX_PATH_COUNT = 10;
 
-    private ShortestPathChecker() {
-        this.graph = new WeightedMultigraph(DefaultWeightedEdge.class);
-        this.dijkstraShortestPath = new DijkstraShortestPath(graph);
+    private final StationGraph graph;
+    private final PathFinder pathFinder;
+    private final KShortestPathFinder kShortestPathFinder;
+    private final ComponentIndex componentIndex;
+
+    private ShortestPathChecker(StationGraph graph, PathFinder pathFinder) {
+        this.graph = graph;
+        this.pathFinder = pathFinder;
+        this.kShortestPathFinder = KShortestPathFinder.of(graph);
+        this.componentIndex = ComponentIndex.of(graph);
     }
 
     public static ShortestPathChecker of(List<Line> lines) {
-        ShortestPathChecker pathChecker = new ShortestPathChecker();
-        pathChecker.initGraph(lines);
+        return of(lines, PathEngine.JGRAPHT);
+    }
+
+    public static ShortestPathChecker of(List<Line> lines, PathEngine engine) {
+        StationGraph graph = StationGraph.of(lines);
+        return of(graph, engine.createPathFinder(graph));
+    }
 
-        return pathChecker;
+    public static ShortestPathChecker of(StationGraph graph, PathFinder pathFinder) {
+        return new ShortestPathChecker(graph, pathFinder);
     }
 
     public List<Station> findShortestPath(Station source, Station target) {
         validatePath(source, target);
-        GraphPath<Station, DefaultWeightedEdge> path = dijkstraShortestPath.getPath(source, target);
+        validateConnected(source, target);
+        List<Station> path = pathFinder.findPath(source, target);
 
         if (Objects.isNull(path)) {
             throw new NotFoundPathException(source.getName(), target.getName());
         }
 
-        return path.getVertexList();
+        return path;
+    }
+
+    public List<List<Station>> findShortestPaths(Station source, Station target, int count) {
+        validatePath(source, target);
+        validatePathCount(count);
+        validateConnected(source, target);
+        List<List<Station>> paths = kShortestPathFinder.findPaths(source, target, count);
+
+        if (paths.isEmpty()) {
+            throw new NotFoundPathException(source.getName(), target.getName());
+        }
+
+        return paths;
+    }
+
+    public Map<Station, Integer> findReachableStations(Station source, int maxDistance) {
+        validateMaxDistance(maxDistance);
+        Map<Station, Integer> reachableStations = new LinkedHashMap<>();
+        int sourceIndex = graph.indexOf(source);
+        if (sourceIndex == StationGraph.NOT_FOUND) {
+            reachableStations.put(source, 0);
+            return reachableStations;
+        }
+
+        ShortestPathTree tree = ShortestPathTree.bounded(graph, sourceIndex, maxDistance);
+        for (int vertex : tree.getSettledVertices()) {
+            reachableStations.put(graph.getStation(vertex), tree.distance(vertex));
+        }
+        return reachableStations;
     }
 
-    private void initGraph(List<Line> lines) {
-        lines.forEach(this::initVertex);
-        lines.forEach(this::initEdgeWeight);
+    /**
+     * source에서 distance보다 짧게 target까지 갈 수 있는지 본다. distance 안쪽의 역만 훑고 멈춘다.
+     */
+    public boolean hasShorterPath(Station source, Station target, int distance) {
+        int sourceIndex = graph.indexOf(source);
+        int targetIndex = graph.indexOf(target);
+        if (sourceIndex == StationGraph.NOT_FOUND || targetIndex == StationGraph.NOT_FOUND || distance <= 0) {
+            return false;
+        }
+
+        ShortestPathTree tree = ShortestPathTree.bounded(graph, sourceIndex, distance - 1);
+        return tree.distance(targetIndex) < distance;
     }
 
-    private void initVertex(Line line) {
-        line.getStations()
-                .forEach(graph::addVertex);
+    public Map<String, Long> getStatistics() {
+        return pathFinder.getStatistics();
     }
 
-    private void initEdgeWeight(Line line) {
-        List<Section> sections = line.getAllSection();
-        sections.stream()
-                .forEach(it -> graph.setEdgeWeight(
-                        graph.addEdge(it.getUpStation(), it.getDownStation()), it.getDistance()));
+    public ComponentIndex getComponentIndex() {
+        return componentIndex;
     }
 
     private void validatePath(Station source, Station target) {
@@ -61,4 +108,25 @@ public class ShortestPathChecker {
         }
     }
 
+    /**
+     * 서로 다른 연결 요소에 있는 역 사이는 탐색하지 않고 바로 거절한다.
+     */
+    public void validateConnected(Station source, Station target) {
+        if (!componentIndex.isConnected(source, target)) {
+            throw new NotFoundPathException(source.getName(), target.getName());
+        }
+    }
+
+    private void validatePathCount(int count) {
+        if (count < 1 || count > MAX_PATH_COUNT) {
+            throw new InvalidPathCountException(MAX_PATH_COUNT, count);
+        }
+    }
+
+    private void validateMaxDistance(int maxDistance) {
+        if (maxDistance < 0) {
+            throw new InvalidMaxDistanceException(maxDistance);
+        }
+    }
+
 }
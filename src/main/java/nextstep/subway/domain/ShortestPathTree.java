@@ -0,0 +1,99 @@
+package nextstep.subway.domain;
+
+import java.util.Arrays;
+
+public class ShortestPathTree {
+
+    public static final int INFINITY = Integer.MAX_VALUE;
+    public static final int NONE = -1;
+
+    private final int source;
+    private final int[] distances;
+    private final int[] previous;
+    private final int[] settledVertices;
+    private int settledCount;
+
+    private ShortestPathTree(int source, int size) {
+        this.source = source;
+        this.distances = new int[size];
+        this.previous = new int[size];
+        this.settledVertices = new int[size];
+        Arrays.fill(distances, INFINITY);
+        Arrays.fill(previous, NONE);
+    }
+
+    public static ShortestPathTree of(StationGraph graph, int source) {
+        return of(graph, source, NONE);
+    }
+
+    public static ShortestPathTree of(StationGraph graph, int source, int target) {
+        ShortestPathTree tree = new ShortestPathTree(source, graph.size());
+        tree.search(graph, target, INFINITY);
+
+        return tree;
+    }
+
+    public static ShortestPathTree bounded(StationGraph graph, int source, int maxDistance) {
+        ShortestPathTree tree = new ShortestPathTree(source, graph.size());
+        tree.search(graph, NONE, maxDistance);
+
+        return tree;
+    }
+
+    public int getSource() {
+        return source;
+    }
+
+    public boolean isReachable(int vertex) {
+        return distances[vertex] != INFINITY;
+    }
+
+    public int distance(int vertex) {
+        return distances[vertex];
+    }
+
+    public int previous(int vertex) {
+        return previous[vertex];
+    }
+
+    public int getSettledCount() {
+        return settledCount;
+    }
+
+    public int[] getSettledVertices() {
+        return Arrays.copyOf(settledVertices, settledCount);
+    }
+
+    void copyTo(int[] distanceRow, int[] previousRow, int offset) {
+        System.arraycopy(distances, 0, distanceRow, offset, distances.length);
+        System.arraycopy(previous, 0, previousRow, offset, previous.length);
+    }
+
+    private void search(StationGraph graph, int target, int maxDistance) {
+        IntMinHeap heap = new IntMinHeap(graph.size());
+        distances[source] = 0;
+        heap.offer(source, 0);
+
+        while (!heap.isEmpty() && heap.peekKey() <= maxDistance) {
+            int vertex = heap.poll();
+            settledVertices[settledCount++] = vertex;
+            if (vertex == target) {
+                return;
+            }
+            relax(graph, vertex, heap);
+        }
+    }
+
+    private void relax(StationGraph graph, int vertex, IntMinHeap heap) {
+        for (int edge = graph.firstEdge(vertex); edge < graph.endEdge(vertex); edge++) {
+            int next = graph.target(edge);
+            int distance = distances[vertex] + graph.weight(edge);
+            if (distance < distances[next]) {
+                distances[next] = distance;
+                previous[next] = vertex;
+                heap.offer(next, distance);
+            }
+        }
+    }
+
+}
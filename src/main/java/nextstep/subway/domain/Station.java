@@ -3,6 +3,7 @@ package nextstep.subway.domain;
 import org.hibernate.Hibernate;
 
 import javax.persistence.*;
+import java.time.LocalDateTime;
 import java.util.Objects;
 
 @Entity
@@ -24,6 +25,18 @@ public class Station extends BaseEntity {
         return station;
     }
 
+    /**
+     * 엔티티를 읽지 않고 구간 행에서 읽어 온 역. 영속성 컨텍스트가 관리하지 않으므로 조회용으로만 쓴다.
+     * 응답에 생성 시각이 빠지지 않도록 생성, 수정 시각도 함께 받는다.
+     */
+    static Station of(Long id, String name, LocalDateTime createdDate, LocalDateTime modifiedDate) {
+        Station station = of(name);
+        station.id = id;
+        station.changeAuditDates(createdDate, modifiedDate);
+
+        return station;
+    }
+
     public Long getId() {
         return id;
     }
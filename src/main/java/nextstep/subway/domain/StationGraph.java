@@ -0,0 +1,322 @@
+package nextstep.subway.domain;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class StationGraph {
+
+    public static final int NOT_FOUND = -1;
+
+    private final Station[] stations;
+    private final Map<Station, Integer> indexes;
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] weights;
+
+    private StationGraph(Station[] stations, Map<Station, Integer> indexes,
+                         int[] offsets, int[] targets, int[] weights) {
+        this.stations = stations;
+        this.indexes = indexes;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+    }
+
+    public static StationGraph of(List<Line> lines) {
+        Builder builder = builder();
+        for (Line line : lines) {
+            for (Section section : line.getAllSection()) {
+                builder.addSection(section.getUpStation(), section.getDownStation(), section.getDistance());
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * 구간을 하나씩 받아 그래프를 만든다. 역은 처음 나온 순서대로 인덱스를 매기므로
+     * 노선과 구간 순서대로 넣으면 노선 목록으로 만든 그래프와 같은 인덱스가 된다.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 구간 변경분을 반영한 새 그래프를 만든다. 기존 그래프는 바뀌지 않으므로 탐색 중인 요청은 그대로 진행된다.
+     * 같은 그래프에서 여러 트랜잭션이 각자 새 그래프를 만들 수 있으므로 역 인덱스 맵은 늘 새로 복사한다.
+     * 새 역은 뒤에 덧붙여 기존 역의 인덱스는 그대로 두고, 인접 구간은 바뀐 역 사이의 구간만 통째로 복사한다.
+     * 마지막 구간이 빠진 역은 전체 재구성과 같은 역 수가 되도록 그래프에서 뺀다.
+     */
+    public StationGraph apply(SectionChanges changes) {
+        Map<Station, Integer> nextIndexes = copyIndexes();
+        List<Station> addedStations = new ArrayList<>();
+        for (Section section : changes.getAddedSections()) {
+            for (Station station : Arrays.asList(section.getUpStation(), section.getDownStation())) {
+                if (!nextIndexes.containsKey(station)) {
+                    nextIndexes.put(station, stations.length + addedStations.size());
+                    addedStations.add(station);
+                }
+            }
+        }
+
+        Station[] nextStations = Arrays.copyOf(stations, stations.length + addedStations.size());
+        for (int i = 0; i < addedStations.size(); i++) {
+            nextStations[stations.length + i] = addedStations.get(i);
+        }
+
+        SortedMap<Integer, List<int[]>> removedArcs = new TreeMap<>();
+        SortedMap<Integer, List<int[]>> addedArcs = new TreeMap<>();
+        for (Section section : changes.getRemovedSections()) {
+            collectArcs(removedArcs, indexes, stations.length, section);
+        }
+        for (Section section : changes.getAddedSections()) {
+            collectArcs(addedArcs, nextIndexes, nextStations.length, section);
+        }
+
+        int arcCount = targets.length - changes.getRemovedSections().size() * 2
+                + changes.getAddedSections().size() * 2;
+        int[] nextOffsets = new int[nextStations.length + 1];
+        int[] nextTargets = new int[arcCount];
+        int[] nextWeights = new int[arcCount];
+        SortedSet<Integer> changedVertices = new TreeSet<>(removedArcs.keySet());
+        changedVertices.addAll(addedArcs.keySet());
+
+        int cursor = 0;
+        int vertex = 0;
+        for (int changedVertex : changedVertices) {
+            cursor = copyUnchangedArcs(vertex, Math.min(changedVertex, stations.length),
+                    nextOffsets, nextTargets, nextWeights, cursor);
+            nextOffsets[changedVertex] = cursor;
+            if (changedVertex < stations.length) {
+                cursor = copyArcs(changedVertex, removedArcs.get(changedVertex), nextTargets, nextWeights, cursor);
+            }
+            for (int[] arc : addedArcs.getOrDefault(changedVertex, Collections.emptyList())) {
+                nextTargets[cursor] = arc[0];
+                nextWeights[cursor++] = arc[1];
+            }
+            vertex = changedVertex + 1;
+        }
+        cursor = copyUnchangedArcs(vertex, stations.length, nextOffsets, nextTargets, nextWeights, cursor);
+        nextOffsets[nextStations.length] = cursor;
+
+        StationGraph next = new StationGraph(nextStations, nextIndexes, nextOffsets, nextTargets, nextWeights);
+        for (int removedVertex : removedArcs.keySet()) {
+            if (next.firstEdge(removedVertex) == next.endEdge(removedVertex)) {
+                return next.withoutIsolatedStations();
+            }
+        }
+        return next;
+    }
+
+    public int indexOf(Station station) {
+        Integer index = indexes.get(station);
+        if (index == null || index >= stations.length) {
+            return NOT_FOUND;
+        }
+        return index;
+    }
+
+    public Station getStation(int index) {
+        return stations[index];
+    }
+
+    public int size() {
+        return stations.length;
+    }
+
+    public int edgeCount() {
+        return targets.length / 2;
+    }
+
+    public int firstEdge(int vertex) {
+        return offsets[vertex];
+    }
+
+    public int endEdge(int vertex) {
+        return offsets[vertex + 1];
+    }
+
+    public int target(int edge) {
+        return targets[edge];
+    }
+
+    public int weight(int edge) {
+        return weights[edge];
+    }
+
+    /**
+     * 구간이 하나도 없는 역을 빼고 남은 역의 인덱스를 앞으로 당긴다.
+     * 빠지는 역에는 간선이 없으므로 간선 배열의 위치는 그대로 두고 대상 인덱스만 바꾼다.
+     */
+    private StationGraph withoutIsolatedStations() {
+        int[] nextIndexOf = new int[stations.length];
+        List<Station> nextStations = new ArrayList<>();
+        Map<Station, Integer> nextIndexes = new ConcurrentHashMap<>();
+        IntList nextOffsets = new IntList();
+        for (int vertex = 0; vertex < stations.length; vertex++) {
+            if (offsets[vertex] == offsets[vertex + 1]) {
+                nextIndexOf[vertex] = NOT_FOUND;
+                continue;
+            }
+            nextIndexOf[vertex] = nextStations.size();
+            nextIndexes.put(stations[vertex], nextStations.size());
+            nextStations.add(stations[vertex]);
+            nextOffsets.add(offsets[vertex]);
+        }
+        nextOffsets.add(targets.length);
+
+        int[] nextTargets = new int[targets.length];
+        for (int edge = 0; edge < targets.length; edge++) {
+            nextTargets[edge] = nextIndexOf[targets[edge]];
+        }
+        return new StationGraph(nextStations.toArray(new Station[0]), nextIndexes, nextOffsets.toArray(),
+                nextTargets, weights);
+    }
+
+    private Map<Station, Integer> copyIndexes() {
+        Map<Station, Integer> copy = new ConcurrentHashMap<>();
+        for (int i = 0; i < stations.length; i++) {
+            copy.put(stations[i], i);
+        }
+        return copy;
+    }
+
+    private static void collectArcs(Map<Integer, List<int[]>> arcs, Map<Station, Integer> indexes, int size,
+                                    Section section) {
+        Integer up = indexes.get(section.getUpStation());
+        Integer down = indexes.get(section.getDownStation());
+        if (up == null || down == null || up >= size || down >= size) {
+            throw new IllegalStateException("routing graph does not contain section stations");
+        }
+        arcs.computeIfAbsent(up, key -> new ArrayList<>()).add(new int[]{down, section.getDistance()});
+        arcs.computeIfAbsent(down, key -> new ArrayList<>()).add(new int[]{up, section.getDistance()});
+    }
+
+    private int copyUnchangedArcs(int from, int to, int[] nextOffsets, int[] nextTargets, int[] nextWeights,
+                                  int cursor) {
+        if (from >= to) {
+            return cursor;
+        }
+
+        int shift = cursor - offsets[from];
+        for (int vertex = from; vertex < to; vertex++) {
+            nextOffsets[vertex] = offsets[vertex] + shift;
+        }
+        int length = offsets[to] - offsets[from];
+        System.arraycopy(targets, offsets[from], nextTargets, cursor, length);
+        System.arraycopy(weights, offsets[from], nextWeights, cursor, length);
+        return cursor + length;
+    }
+
+    private int copyArcs(int vertex, List<int[]> removed, int[] nextTargets, int[] nextWeights, int cursor) {
+        int first = offsets[vertex];
+        int length = offsets[vertex + 1] - first;
+        if (removed == null) {
+            System.arraycopy(targets, first, nextTargets, cursor, length);
+            System.arraycopy(weights, first, nextWeights, cursor, length);
+            return cursor + length;
+        }
+
+        List<Integer> removedEdges = findEdges(vertex, removed);
+        for (int edge = first; edge < first + length; edge++) {
+            if (!removedEdges.contains(edge)) {
+                nextTargets[cursor] = targets[edge];
+                nextWeights[cursor++] = weights[edge];
+            }
+        }
+        return cursor;
+    }
+
+    private List<Integer> findEdges(int vertex, List<int[]> arcs) {
+        List<Integer> edges = new ArrayList<>();
+        for (int[] arc : arcs) {
+            int edge = findEdge(vertex, arc[0], arc[1], edges);
+            if (edge == NOT_FOUND) {
+                throw new IllegalStateException("routing graph does not contain removed section");
+            }
+            edges.add(edge);
+        }
+        return edges;
+    }
+
+    private int findEdge(int vertex, int target, int weight, List<Integer> excludedEdges) {
+        for (int edge = offsets[vertex]; edge < offsets[vertex + 1]; edge++) {
+            if (targets[edge] == target && weights[edge] == weight && !excludedEdges.contains(edge)) {
+                return edge;
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    public static class Builder {
+
+        private final Map<Station, Integer> indexes = new ConcurrentHashMap<>();
+        private final List<Station> stations = new ArrayList<>();
+        private final IntList upStations = new IntList();
+        private final IntList downStations = new IntList();
+        private final IntList distances = new IntList();
+
+        private Builder() {
+        }
+
+        public Builder addSection(Station upStation, Station downStation, int distance) {
+            upStations.add(indexOf(upStation));
+            downStations.add(indexOf(downStation));
+            distances.add(distance);
+            return this;
+        }
+
+        public StationGraph build() {
+            int size = stations.size();
+            int sectionCount = distances.size();
+            int[] offsets = new int[size + 1];
+            for (int i = 0; i < sectionCount; i++) {
+                offsets[upStations.get(i) + 1]++;
+                offsets[downStations.get(i) + 1]++;
+            }
+
+            for (int vertex = 0; vertex < size; vertex++) {
+                offsets[vertex + 1] += offsets[vertex];
+            }
+
+            int[] cursor = new int[size];
+            System.arraycopy(offsets, 0, cursor, 0, size);
+            int[] targets = new int[sectionCount * 2];
+            int[] weights = new int[sectionCount * 2];
+
+            for (int i = 0; i < sectionCount; i++) {
+                int up = upStations.get(i);
+                int down = downStations.get(i);
+
+                int forward = cursor[up]++;
+                targets[forward] = down;
+                weights[forward] = distances.get(i);
+
+                int backward = cursor[down]++;
+                targets[backward] = up;
+                weights[backward] = distances.get(i);
+            }
+
+            return new StationGraph(stations.toArray(new Station[0]), indexes, offsets, targets, weights);
+        }
+
+        private int indexOf(Station station) {
+            Integer index = indexes.get(station);
+            if (index == null) {
+                index = stations.size();
+                indexes.put(station, index);
+                stations.add(station);
+            }
+            return index;
+        }
+
+    }
+
+}
@@ -0,0 +1,98 @@
+package nextstep.subway.domain;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 경로 그래프와 갈아타지 않는 구간 색인에 필요한 구간의 노선, 양 끝 역, 거리만 SQL로 읽어 바로 넣는다.
+ * 노선, 구간, 역 엔티티를 만들지 않으므로 영속성 컨텍스트가 엔티티마다 두는 스냅샷과 프록시 비용이 없다.
+ * 행은 FETCH_SIZE 단위로 나눠 받으므로 결과 전체를 한 번에 메모리에 올리지 않는다.
+ */
+@Repository
+public class StationGraphRepository {
+
+    private static final int FETCH_SIZE = 1000;
+    private static final String UP_STATION = "up_station";
+    private static final String DOWN_STATION = "down_station";
+    private static final String SELECT_SECTIONS_SQL = "select s.line_id, s.distance, "
+            + "s.up_station_id, up.name as up_station_name, "
+            + "up.created_date as up_station_created_date, up.modified_date as up_station_modified_date, "
+            + "s.down_station_id, down.name as down_station_name, "
+            + "down.created_date as down_station_created_date, down.modified_date as down_station_modified_date "
+            + "from section s "
+            + "join station up on up.id = s.up_station_id "
+            + "join station down on down.id = s.down_station_id "
+            + "order by s.line_id, s.position";
+
+    private final JdbcTemplate jdbcTemplate;
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public StationGraphRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 노선 순서, 노선 안에서는 구간 순서대로 읽으므로 역 인덱스는 StationGraph.of(노선 목록)과 같다.
+     */
+    public StationNetwork load() {
+        // 같은 트랜잭션에서 바꾼 구간이 아직 쓰이지 않았다면 SQL로 읽기 전에 내보낸다.
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            entityManager.flush();
+        }
+
+        StationGraph.Builder graph = StationGraph.builder();
+        DirectRideIndex.Builder directRides = DirectRideIndex.builder();
+        Map<Long, Station> stations = new HashMap<>();
+        jdbcTemplate.query(connection -> prepareStatement(connection, SELECT_SECTIONS_SQL), resultSet -> {
+            Station upStation = stationOf(stations, resultSet, UP_STATION);
+            Station downStation = stationOf(stations, resultSet, DOWN_STATION);
+            int distance = resultSet.getInt("distance");
+            graph.addSection(upStation, downStation, distance);
+            directRides.addSection(resultSet.getLong("line_id"), upStation, downStation, distance);
+        });
+        return StationNetwork.of(graph.build(), directRides.build());
+    }
+
+    /**
+     * 공유하는 JdbcTemplate의 설정은 바꾸지 않고 이 조회에만 가져올 행 수를 정한다.
+     */
+    private static PreparedStatement prepareStatement(Connection connection, String sql) throws SQLException {
+        PreparedStatement statement = connection.prepareStatement(sql);
+        statement.setFetchSize(FETCH_SIZE);
+        return statement;
+    }
+
+    /**
+     * 같은 역은 처음 나온 행에서만 이름과 생성, 수정 시각을 읽어 하나의 객체로 나눠 쓴다.
+     */
+    private Station stationOf(Map<Long, Station> stations, ResultSet resultSet, String column) throws SQLException {
+        long id = resultSet.getLong(column + "_id");
+        Station station = stations.get(id);
+        if (Objects.isNull(station)) {
+            station = Station.of(id, resultSet.getString(column + "_name"),
+                    toLocalDateTime(resultSet.getTimestamp(column + "_created_date")),
+                    toLocalDateTime(resultSet.getTimestamp(column + "_modified_date")));
+            stations.put(id, station);
+        }
+        return station;
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return Objects.isNull(timestamp) ? null : timestamp.toLocalDateTime();
+    }
+
+}
@@ -0,0 +1,32 @@
+package nextstep.subway.domain;
+
+/**
+ * 경로 탐색에 쓰는 역 그래프와 갈아타지 않는 구간 색인. 같은 구간 행으로 함께 만들고 구간 변경분도 함께 반영한다.
+ */
+public class StationNetwork {
+
+    private final StationGraph graph;
+    private final DirectRideIndex directRides;
+
+    private StationNetwork(StationGraph graph, DirectRideIndex directRides) {
+        this.graph = graph;
+        this.directRides = directRides;
+    }
+
+    public static StationNetwork of(StationGraph graph, DirectRideIndex directRides) {
+        return new StationNetwork(graph, directRides);
+    }
+
+    public StationNetwork apply(SectionChanges changes) {
+        return new StationNetwork(graph.apply(changes), directRides.apply(changes));
+    }
+
+    public StationGraph getGraph() {
+        return graph;
+    }
+
+    public DirectRideIndex getDirectRides() {
+        return directRides;
+    }
+
+}
@@ -0,0 +1,127 @@
+package nextstep.subway.domain;
+
+import nextstep.subway.exception.line.InvalidTimetableException;
+
+import javax.persistence.CollectionTable;
+import javax.persistence.Column;
+import javax.persistence.ElementCollection;
+import javax.persistence.Embeddable;
+import javax.persistence.JoinColumn;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 노선의 양쪽 종점에서 열차가 출발하는 시각과 구간 거리당 운행 시간.
+ * 출발 시각을 직접 지정하지 않으면 첫차부터 막차까지 배차 간격마다 출발한다.
+ */
+@Embeddable
+public class Timetable {
+
+    private static final LocalTime DEFAULT_FIRST_DEPARTURE_TIME = LocalTime.of(5, 30);
+    private static final LocalTime DEFAULT_LAST_DEPARTURE_TIME = LocalTime.of(23, 30);
+    private static final int DEFAULT_HEADWAY_MINUTES = 10;
+    private static final int DEFAULT_SECONDS_PER_DISTANCE = 60;
+    private static final int SECONDS_PER_MINUTE = 60;
+
+    private LocalTime firstDepartureTime;
+    private LocalTime lastDepartureTime;
+    private Integer headwayMinutes;
+    private int secondsPerDistance;
+    @ElementCollection
+    @CollectionTable(name = "line_departure", joinColumns = @JoinColumn(name = "line_id"))
+    @Column(name = "departure_time")
+    private List<LocalTime> departureTimes = new ArrayList<>();
+
+    protected Timetable() {
+    }
+
+    private Timetable(LocalTime firstDepartureTime, LocalTime lastDepartureTime, Integer headwayMinutes,
+                      List<LocalTime> departureTimes, int secondsPerDistance) {
+        this.firstDepartureTime = firstDepartureTime;
+        this.lastDepartureTime = lastDepartureTime;
+        this.headwayMinutes = headwayMinutes;
+        this.departureTimes = departureTimes;
+        this.secondsPerDistance = secondsPerDistance;
+    }
+
+    public static Timetable defaults() {
+        return ofHeadway(DEFAULT_FIRST_DEPARTURE_TIME, DEFAULT_LAST_DEPARTURE_TIME, DEFAULT_HEADWAY_MINUTES,
+                DEFAULT_SECONDS_PER_DISTANCE);
+    }
+
+    public static Timetable ofHeadway(LocalTime firstDepartureTime, LocalTime lastDepartureTime,
+                                      int headwayMinutes, int secondsPerDistance) {
+        if (Objects.isNull(firstDepartureTime) || Objects.isNull(lastDepartureTime)
+                || firstDepartureTime.isAfter(lastDepartureTime)) {
+            throw new InvalidTimetableException("첫차는 막차보다 늦을 수 없습니다.");
+        }
+        if (headwayMinutes < 1) {
+            throw new InvalidTimetableException("배차 간격은 1분 이상이어야 합니다.");
+        }
+        validateSecondsPerDistance(secondsPerDistance);
+
+        return new Timetable(firstDepartureTime, lastDepartureTime, headwayMinutes, new ArrayList<>(),
+                secondsPerDistance);
+    }
+
+    public static Timetable ofDepartures(List<LocalTime> departureTimes, int secondsPerDistance) {
+        if (Objects.isNull(departureTimes) || departureTimes.isEmpty() || departureTimes.contains(null)) {
+            throw new InvalidTimetableException("출발 시각이 하나 이상 있어야 합니다.");
+        }
+        validateSecondsPerDistance(secondsPerDistance);
+
+        List<LocalTime> sortedDepartureTimes = new ArrayList<>(departureTimes);
+        sortedDepartureTimes.sort(null);
+        return new Timetable(sortedDepartureTimes.get(0), sortedDepartureTimes.get(sortedDepartureTimes.size() - 1),
+                null, sortedDepartureTimes, secondsPerDistance);
+    }
+
+    private static void validateSecondsPerDistance(int secondsPerDistance) {
+        if (secondsPerDistance < 1) {
+            throw new InvalidTimetableException("거리당 운행 시간은 1초 이상이어야 합니다.");
+        }
+    }
+
+    /**
+     * 종점 출발 시각을 자정부터 센 초로 오름차순 정렬해 돌려준다.
+     */
+    public int[] getDepartureSeconds() {
+        if (Objects.isNull(headwayMinutes)) {
+            return departureTimes.stream()
+                    .sorted()
+                    .mapToInt(LocalTime::toSecondOfDay)
+                    .toArray();
+        }
+
+        int first = firstDepartureTime.toSecondOfDay();
+        int headway = headwayMinutes * SECONDS_PER_MINUTE;
+        int[] departures = new int[(lastDepartureTime.toSecondOfDay() - first) / headway + 1];
+        for (int i = 0; i < departures.length; i++) {
+            departures[i] = first + i * headway;
+        }
+        return departures;
+    }
+
+    public LocalTime getFirstDepartureTime() {
+        return firstDepartureTime;
+    }
+
+    public LocalTime getLastDepartureTime() {
+        return lastDepartureTime;
+    }
+
+    public Integer getHeadwayMinutes() {
+        return headwayMinutes;
+    }
+
+    public List<LocalTime> getDepartureTimes() {
+        return departureTimes;
+    }
+
+    public int getSecondsPerDistance() {
+        return secondsPerDistance;
+    }
+
+}
@@ -0,0 +1,72 @@
+package nextstep.subway.domain;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class TransferPath {
+
+    private final List<Leg> legs;
+
+    private TransferPath(List<Leg> legs) {
+        this.legs = Collections.unmodifiableList(legs);
+    }
+
+    public static TransferPath of(List<Leg> legs) {
+        return new TransferPath(legs);
+    }
+
+    public List<Station> getStations() {
+        List<Station> stations = new ArrayList<>();
+        for (Leg leg : legs) {
+            List<Station> legStations = leg.getStations();
+            stations.addAll(stations.isEmpty() ? legStations : legStations.subList(1, legStations.size()));
+        }
+        return stations;
+    }
+
+    public int getDistance() {
+        return legs.stream()
+                .mapToInt(Leg::getDistance)
+                .sum();
+    }
+
+    public int getTransferCount() {
+        return Math.max(0, legs.size() - 1);
+    }
+
+    public List<Leg> getLegs() {
+        return legs;
+    }
+
+    public static class Leg {
+
+        private final Line line;
+        private final List<Station> stations;
+        private final int distance;
+
+        private Leg(Line line, List<Station> stations, int distance) {
+            this.line = line;
+            this.stations = Collections.unmodifiableList(stations);
+            this.distance = distance;
+        }
+
+        public static Leg of(Line line, List<Station> stations, int distance) {
+            return new Leg(line, stations, distance);
+        }
+
+        public Line getLine() {
+            return line;
+        }
+
+        public List<Station> getStations() {
+            return stations;
+        }
+
+        public int getDistance() {
+            return distance;
+        }
+
+    }
+
+}
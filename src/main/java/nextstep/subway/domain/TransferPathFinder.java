@@ -0,0 +1,269 @@
+package nextstep.subway.domain;
+
+import nextstep.subway.exception.path.InvalidTransferPenaltyException;
+import nextstep.subway.exception.path.NotFoundPathException;
+import nextstep.subway.exception.path.SameStationException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 역과 노선의 쌍(정차)마다 정점을 둔 노선 확장 그래프에서 환승을 고려한 경로를 찾는다.
+ * 정차 정점 [0, stopCount) 뒤에 역마다 환승 정점 하나를 둔다.
+ * 정차 -> 환승 정점(하차)은 비용이 없고, 환승 정점 -> 정차(승차)에는 조회할 때 받은 환승 벌점을 더한다.
+ * 출발역에서의 첫 승차는 환승이 아니므로 벌점이 없다.
+ */
+public class TransferPathFinder {
+
+    private static final int INFINITY = Integer.MAX_VALUE;
+    private static final int NONE = -1;
+
+    private final Station[] stations;
+    private final Map<Station, Integer> stationIndexes;
+    private final Line[] lines;
+    private final int[] stopStations;
+    private final int[] stopLines;
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] weights;
+
+    private TransferPathFinder(Station[] stations, Map<Station, Integer> stationIndexes, Line[] lines,
+                               int[] stopStations, int[] stopLines, int[] offsets, int[] targets, int[] weights) {
+        this.stations = stations;
+        this.stationIndexes = stationIndexes;
+        this.lines = lines;
+        this.stopStations = stopStations;
+        this.stopLines = stopLines;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+    }
+
+    public static TransferPathFinder of(List<Line> lines) {
+        Builder builder = new Builder(lines.size());
+        for (Line line : lines) {
+            builder.addLine(line);
+        }
+        return builder.build();
+    }
+
+    public TransferPath findPath(Station source, Station target, int transferPenalty) {
+        validatePath(source, target);
+        validateTransferPenalty(transferPenalty);
+
+        Integer sourceIndex = stationIndexes.get(source);
+        Integer targetIndex = stationIndexes.get(target);
+        if (Objects.isNull(sourceIndex) || Objects.isNull(targetIndex)) {
+            throw new NotFoundPathException(source.getName(), target.getName());
+        }
+
+        int[] previous = search(hubOf(sourceIndex), hubOf(targetIndex), transferPenalty);
+        if (Objects.isNull(previous)) {
+            throw new NotFoundPathException(source.getName(), target.getName());
+        }
+        return toTransferPath(previous, hubOf(targetIndex));
+    }
+
+    public Map<String, Long> getStatistics() {
+        Map<String, Long> statistics = new LinkedHashMap<>();
+        statistics.put("stations", (long) stations.length);
+        statistics.put("lines", (long) lines.length);
+        statistics.put("stops", (long) stopCount());
+        statistics.put("edges", (long) targets.length);
+        return statistics;
+    }
+
+    private int[] search(int source, int target, int transferPenalty) {
+        int vertexCount = offsets.length - 1;
+        int[] distances = new int[vertexCount];
+        int[] previous = new int[vertexCount];
+        Arrays.fill(distances, INFINITY);
+        IntMinHeap heap = new IntMinHeap(vertexCount);
+
+        distances[source] = 0;
+        previous[source] = NONE;
+        heap.offer(source, 0);
+        while (!heap.isEmpty()) {
+            int vertex = heap.poll();
+            if (vertex == target) {
+                return previous;
+            }
+
+            int penalty = isHub(vertex) && vertex != source ? transferPenalty : 0;
+            for (int edge = offsets[vertex]; edge < offsets[vertex + 1]; edge++) {
+                int next = targets[edge];
+                long distance = (long) distances[vertex] + weights[edge] + penalty;
+                if (distance < distances[next]) {
+                    distances[next] = (int) Math.min(distance, INFINITY - 1);
+                    previous[next] = vertex;
+                    heap.offer(next, distances[next]);
+                }
+            }
+        }
+        return null;
+    }
+
+    private TransferPath toTransferPath(int[] previous, int target) {
+        List<Integer> stops = new ArrayList<>();
+        for (int vertex = previous[target]; vertex != NONE; vertex = previous[vertex]) {
+            if (!isHub(vertex)) {
+                stops.add(0, vertex);
+            }
+        }
+
+        List<TransferPath.Leg> legs = new ArrayList<>();
+        int from = 0;
+        for (int i = 1; i <= stops.size(); i++) {
+            if (i == stops.size() || stopLines[stops.get(i)] != stopLines[stops.get(from)]) {
+                legs.add(toLeg(stops.subList(from, i)));
+                from = i;
+            }
+        }
+        return TransferPath.of(legs);
+    }
+
+    private TransferPath.Leg toLeg(List<Integer> stops) {
+        List<Station> legStations = new ArrayList<>();
+        int distance = 0;
+        for (int i = 0; i < stops.size(); i++) {
+            legStations.add(stations[stopStations[stops.get(i)]]);
+            if (i > 0) {
+                distance += rideWeight(stops.get(i - 1), stops.get(i));
+            }
+        }
+        return TransferPath.Leg.of(lines[stopLines[stops.get(0)]], legStations, distance);
+    }
+
+    private int rideWeight(int from, int to) {
+        int weight = INFINITY;
+        for (int edge = offsets[from]; edge < offsets[from + 1]; edge++) {
+            if (targets[edge] == to) {
+                weight = Math.min(weight, weights[edge]);
+            }
+        }
+        return weight;
+    }
+
+    private int stopCount() {
+        return stopStations.length;
+    }
+
+    private int hubOf(int stationIndex) {
+        return stopCount() + stationIndex;
+    }
+
+    private boolean isHub(int vertex) {
+        return vertex >= stopCount();
+    }
+
+    private void validatePath(Station source, Station target) {
+        if (Objects.equals(source, target)) {
+            throw new SameStationException();
+        }
+    }
+
+    private void validateTransferPenalty(int transferPenalty) {
+        if (transferPenalty < 0) {
+            throw new InvalidTransferPenaltyException(transferPenalty);
+        }
+    }
+
+    private static class Builder {
+
+        private final List<Line> lines;
+        private final List<Station> stations = new ArrayList<>();
+        private final Map<Station, Integer> stationIndexes = new HashMap<>();
+        private final IntList stopStations = new IntList();
+        private final IntList stopLines = new IntList();
+        private final IntList rideSources = new IntList();
+        private final IntList rideTargets = new IntList();
+        private final IntList rideWeights = new IntList();
+
+        private Builder(int lineCount) {
+            this.lines = new ArrayList<>(lineCount);
+        }
+
+        private void addLine(Line line) {
+            int lineIndex = lines.size();
+            lines.add(line);
+
+            Map<Station, Integer> stops = new HashMap<>();
+            for (Section section : line.getAllSection()) {
+                int upStop = stopOf(stops, section.getUpStation(), lineIndex);
+                int downStop = stopOf(stops, section.getDownStation(), lineIndex);
+                addRide(upStop, downStop, section.getDistance());
+                addRide(downStop, upStop, section.getDistance());
+            }
+        }
+
+        private int stopOf(Map<Station, Integer> stops, Station station, int lineIndex) {
+            Integer stop = stops.get(station);
+            if (Objects.nonNull(stop)) {
+                return stop;
+            }
+
+            Integer stationIndex = stationIndexes.get(station);
+            if (Objects.isNull(stationIndex)) {
+                stationIndex = stations.size();
+                stations.add(station);
+                stationIndexes.put(station, stationIndex);
+            }
+
+            int newStop = stopStations.size();
+            stopStations.add(stationIndex);
+            stopLines.add(lineIndex);
+            stops.put(station, newStop);
+            return newStop;
+        }
+
+        private void addRide(int from, int to, int distance) {
+            rideSources.add(from);
+            rideTargets.add(to);
+            rideWeights.add(distance);
+        }
+
+        private TransferPathFinder build() {
+            int stopCount = stopStations.size();
+            int vertexCount = stopCount + stations.size();
+            int edgeCount = rideSources.size() + stopCount * 2;
+
+            // 정차마다 하차 간선과 승차 간선이 하나씩 있다.
+            int[] offsets = new int[vertexCount + 1];
+            for (int i = 0; i < rideSources.size(); i++) {
+                offsets[rideSources.get(i) + 1]++;
+            }
+            for (int stop = 0; stop < stopCount; stop++) {
+                offsets[stop + 1]++;
+                offsets[stopCount + stopStations.get(stop) + 1]++;
+            }
+            for (int vertex = 0; vertex < vertexCount; vertex++) {
+                offsets[vertex + 1] += offsets[vertex];
+            }
+
+            int[] cursors = Arrays.copyOf(offsets, vertexCount);
+            int[] targets = new int[edgeCount];
+            int[] weights = new int[edgeCount];
+            for (int i = 0; i < rideSources.size(); i++) {
+                int edge = cursors[rideSources.get(i)]++;
+                targets[edge] = rideTargets.get(i);
+                weights[edge] = rideWeights.get(i);
+            }
+            for (int stop = 0; stop < stopCount; stop++) {
+                int hub = stopCount + stopStations.get(stop);
+                targets[cursors[stop]++] = hub;
+                targets[cursors[hub]++] = stop;
+            }
+
+            return new TransferPathFinder(stations.toArray(new Station[0]), stationIndexes,
+                    lines.toArray(new Line[0]), stopStations.toArray(), stopLines.toArray(),
+                    offsets, targets, weights);
+        }
+
+    }
+
+}
@@ -0,0 +1,13 @@
+package nextstep.subway.exception.line;
+
+import nextstep.subway.exception.ServiceException;
+
+public class InvalidTimetableException extends ServiceException {
+
+    private static final String MESSAGE = "노선 시간표가 올바르지 않습니다. - %s";
+
+    public InvalidTimetableException(String reason) {
+        super(String.format(MESSAGE, reason));
+    }
+
+}
@@ -0,0 +1,13 @@
+package nextstep.subway.exception.network;
+
+import nextstep.subway.exception.ServiceException;
+
+public class InvalidImportRowException extends ServiceException {
+
+    private static final String MESSAGE = "가져올 파일의 행이 올바르지 않습니다. - %s %d행: %s";
+
+    public InvalidImportRowException(String fileName, int rowNumber, String reason) {
+        super(String.format(MESSAGE, fileName, rowNumber, reason));
+    }
+
+}
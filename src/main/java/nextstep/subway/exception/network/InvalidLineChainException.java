@@ -0,0 +1,13 @@
+package nextstep.subway.exception.network;
+
+import nextstep.subway.exception.ServiceException;
+
+public class InvalidLineChainException extends ServiceException {
+
+    private static final String MESSAGE = "노선의 구간들을 하나로 이을 수 없습니다. - %s";
+
+    public InvalidLineChainException(String lineName) {
+        super(String.format(MESSAGE, lineName));
+    }
+
+}
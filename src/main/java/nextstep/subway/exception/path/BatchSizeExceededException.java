@@ -0,0 +1,13 @@
+package nextstep.subway.exception.path;
+
+import nextstep.subway.exception.ServiceException;
+
+public class BatchSizeExceededException extends ServiceException {
+
+    private static final String MESSAGE = "한 번에 조회할 수 있는 경로는 최대 %s개입니다. - %s";
+
+    public BatchSizeExceededException(int maxSize, int size) {
+        super(String.format(MESSAGE, maxSize, size));
+    }
+
+}
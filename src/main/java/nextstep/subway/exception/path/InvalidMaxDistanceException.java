@@ -0,0 +1,13 @@
+package nextstep.subway.exception.path;
+
+import nextstep.subway.exception.ServiceException;
+
+public class InvalidMaxDistanceException extends ServiceException {
+
+    private static final String MESSAGE = "최대 거리는 0 이상이어야 합니다. - %s";
+
+    public InvalidMaxDistanceException(int maxDistance) {
+        super(String.format(MESSAGE, maxDistance));
+    }
+
+}
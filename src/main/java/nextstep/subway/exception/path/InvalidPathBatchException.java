@@ -0,0 +1,13 @@
+package nextstep.subway.exception.path;
+
+import nextstep.subway.exception.ServiceException;
+
+public class InvalidPathBatchException extends ServiceException {
+
+    private static final String MESSAGE = "조회할 경로를 빈 항목 없이 한 개 이상 보내 주세요.";
+
+    public InvalidPathBatchException() {
+        super(MESSAGE);
+    }
+
+}
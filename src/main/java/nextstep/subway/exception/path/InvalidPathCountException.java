@@ -0,0 +1,13 @@
+package nextstep.subway.exception.path;
+
+import nextstep.subway.exception.ServiceException;
+
+public class InvalidPathCountException extends ServiceException {
+
+    private static final String MESSAGE = "조회할 경로 수는 1 이상 %s 이하여야 합니다. - %s";
+
+    public InvalidPathCountException(int maxCount, int count) {
+        super(String.format(MESSAGE, maxCount, count));
+    }
+
+}
@@ -0,0 +1,13 @@
+package nextstep.subway.exception.path;
+
+import nextstep.subway.exception.ServiceException;
+
+public class InvalidTransferPenaltyException extends ServiceException {
+
+    private static final String MESSAGE = "환승 벌점은 0 이상이어야 합니다. - %s";
+
+    public InvalidTransferPenaltyException(int transferPenalty) {
+        super(String.format(MESSAGE, transferPenalty));
+    }
+
+}
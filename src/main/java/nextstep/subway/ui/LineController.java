@@ -36,6 +36,13 @@ public class LineController {
         return ResponseEntity.ok(lines);
     }
 
+    @GetMapping("/direct-rides")
+    public ResponseEntity<List<DirectRideResponse>> directRides(@RequestParam Long source, @RequestParam Long target) {
+        List<DirectRideResponse> rides = lineQueryService.findDirectRides(source, target);
+
+        return ResponseEntity.ok(rides);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<LineAndSectionResponse> showLine(@PathVariable("id") Long id) {
         LineAndSectionResponse line = lineQueryService.findLine(id);
@@ -52,6 +59,15 @@ public class LineController {
                 .build();
     }
 
+    @PutMapping("/{id}/timetable")
+    public ResponseEntity<Void> updateTimetable(@PathVariable("id") Long id,
+                                                @RequestBody TimetableRequest request) {
+        lineCommandService.updateTimetable(id, request);
+
+        return ResponseEntity.noContent()
+                .build();
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteLine(@PathVariable("id") Long id) {
         lineCommandService.deleteLine(id);
@@ -68,6 +84,15 @@ public class LineController {
                 .body(lineResponse);
     }
 
+    @PostMapping("/{id}/sections/bulk")
+    public ResponseEntity<SectionBulkResponse> addSections(@PathVariable("id") Long id,
+                                                           @RequestBody SectionBulkRequest request) {
+        SectionBulkResponse response = lineCommandService.addSections(id, request);
+
+        return ResponseEntity.created(URI.create("/lines/" + response.getLineId()))
+                .body(response);
+    }
+
     @DeleteMapping("/{id}/sections")
     public ResponseEntity<Void> deleteSection(@PathVariable("id") Long lineId, @RequestParam("stationId") Long stationId) {
         lineCommandService.deleteSection(lineId, stationId);
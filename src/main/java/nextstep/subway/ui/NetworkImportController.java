@@ -0,0 +1,33 @@
+package nextstep.subway.ui;
+
+import nextstep.subway.applicaion.command.NetworkImportService;
+import nextstep.subway.applicaion.dto.NetworkImportResponse;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@RestController
+@RequestMapping("/admin/network")
+public class NetworkImportController {
+
+    private final NetworkImportService networkImportService;
+
+    public NetworkImportController(NetworkImportService networkImportService) {
+        this.networkImportService = networkImportService;
+    }
+
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<NetworkImportResponse> importNetwork(@RequestPart("stations") MultipartFile stations,
+                                                               @RequestPart("sections") MultipartFile sections)
+            throws IOException {
+        try (InputStream stationsFile = stations.getInputStream();
+             InputStream sectionsFile = sections.getInputStream()) {
+            return ResponseEntity.ok(networkImportService.importNetwork(stationsFile, sectionsFile));
+        }
+    }
+
+}
@@ -1,12 +1,20 @@
 package nextstep.subway.ui;
 
+import nextstep.subway.applicaion.dto.DistanceResponse;
+import nextstep.subway.applicaion.dto.JourneyResponse;
+import nextstep.subway.applicaion.dto.PathBatchRequest;
+import nextstep.subway.applicaion.dto.PathBatchResponse;
 import nextstep.subway.applicaion.dto.PathResponse;
+import nextstep.subway.applicaion.dto.PathStatisticsResponse;
+import nextstep.subway.applicaion.dto.PathsResponse;
+import nextstep.subway.applicaion.dto.ReachableStationsResponse;
+import nextstep.subway.applicaion.dto.TransferPathResponse;
 import nextstep.subway.applicaion.query.PathQueryService;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RequestParam;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalTime;
 
 @RestController
 @RequestMapping("/paths")
@@ -25,4 +33,59 @@ public class PathController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping(params = "count")
+    public ResponseEntity<PathsResponse> shortestPaths(@RequestParam Long source, @RequestParam Long target,
+                                                       @RequestParam int count) {
+        PathsResponse response = pathQueryService.findPaths(source, target, count);
+
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/distance")
+    public ResponseEntity<DistanceResponse> distance(@RequestParam Long source, @RequestParam Long target) {
+        DistanceResponse response = pathQueryService.findDistance(source, target);
+
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/transfer")
+    public ResponseEntity<TransferPathResponse> transferPath(
+            @RequestParam Long source, @RequestParam Long target,
+            @RequestParam(defaultValue = "${subway.path.transfer-penalty:10}") int transferPenalty) {
+        TransferPathResponse response = pathQueryService.findTransferPath(source, target, transferPenalty);
+
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/earliest-arrival")
+    public ResponseEntity<JourneyResponse> earliestArrival(
+            @RequestParam Long source, @RequestParam Long target,
+            @RequestParam @DateTimeFormat(pattern = "HH:mm") LocalTime departureTime) {
+        JourneyResponse response = pathQueryService.findEarliestArrival(source, target, departureTime);
+
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<PathBatchResponse> batchShortestPaths(@RequestBody PathBatchRequest request) {
+        PathBatchResponse response = pathQueryService.findPaths(request);
+
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/reachable")
+    public ResponseEntity<ReachableStationsResponse> reachableStations(@RequestParam Long source,
+                                                                       @RequestParam int maxDistance) {
+        ReachableStationsResponse response = pathQueryService.findReachableStations(source, maxDistance);
+
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/statistics")
+    public ResponseEntity<PathStatisticsResponse> statistics() {
+        PathStatisticsResponse response = pathQueryService.findStatistics();
+
+        return ResponseEntity.ok(response);
+    }
+
 }
@@ -4,13 +4,16 @@ import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
 import nextstep.subway.acceptance.step_feature.LineStepFeature;
 import nextstep.subway.acceptance.step_feature.StationStepFeature;
+import nextstep.subway.applicaion.dto.DirectRideResponse;
 import nextstep.subway.applicaion.dto.LineAndSectionResponse;
+import nextstep.subway.applicaion.dto.PathResponse;
 import nextstep.subway.applicaion.dto.StationResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
 
+import java.util.List;
 import java.util.Map;
 
 import static nextstep.subway.acceptance.step_feature.LineStepFeature.*;
@@ -178,4 +181,29 @@ class LineAcceptanceTest extends AcceptanceTest {
         노선_응답_상태코드_검증(response.statusCode(), HttpStatus.NO_CONTENT);
     }
 
+    /**
+     * Given 두 역을 지나는 노선을 생성하고
+     * When 두 역 사이를 갈아타지 않고 가는 노선을 요청 하면
+     * Then 노선별 구간을 짧은 순서대로 응답 받는다
+     */
+    @DisplayName("갈아타지 않고 가는 노선 조회")
+    @Test
+    void findDirectRides() {
+        // given
+        LineAndSectionResponse 신분당선 = 지하철_노선_생성_조회_요청(params);
+        지하철_노선에_지하철_구간_생성_요청(신분당선.getLineId(), 정자역.getId(), 미금역.getId(), 10);
+        지하철_노선_생성_조회_요청(노선_생성_Param_생성("분당선", "yellow", 미금역.getId(), 강남역.getId(), 200));
+
+        // when
+        List<DirectRideResponse> rides = 환승없는_노선_조회_요청(강남역.getId(), 미금역.getId());
+
+        // then
+        assertThat(rides).extracting(DirectRideResponse::getLineName)
+                .containsExactly(신분당선_이름, "분당선");
+        assertThat(rides).extracting(DirectRideResponse::getDistance)
+                .containsExactly(110, 200);
+        assertThat(rides.get(0).getStations()).extracting(PathResponse.StationResponse::getName)
+                .containsExactly(강남역_이름, 정자역_이름, 미금역_이름);
+    }
+
 }
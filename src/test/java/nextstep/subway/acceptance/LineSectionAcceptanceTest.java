@@ -5,6 +5,8 @@ import io.restassured.response.Response;
 import nextstep.subway.acceptance.step_feature.LineStepFeature;
 import nextstep.subway.acceptance.step_feature.StationStepFeature;
 import nextstep.subway.applicaion.dto.LineAndSectionResponse;
+import nextstep.subway.applicaion.dto.SectionBulkResponse;
+import nextstep.subway.applicaion.dto.SectionRequest;
 import nextstep.subway.applicaion.dto.StationResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -13,10 +15,12 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.http.HttpStatus;
 
+import java.util.Arrays;
 import java.util.Map;
 
 import static nextstep.subway.acceptance.step_feature.LineStepFeature.*;
 import static nextstep.subway.acceptance.step_feature.StationStepFeature.*;
+import static org.assertj.core.api.Assertions.assertThat;
 
 @DisplayName("지하철 구간 관리 기능")
 class LineSectionAcceptanceTest extends AcceptanceTest {
@@ -134,6 +138,49 @@ class LineSectionAcceptanceTest extends AcceptanceTest {
         노선_생성_실패_응답상태_검증(response);
     }
 
+    /**
+     * When 하행 종점부터 이어지는 여러 구간을 한 번에 등록하면
+     * Then 등록한 구간 수와 거리를 응답 받고, 노선의 역은 등록한 순서대로 이어진다
+     */
+    @DisplayName("하행 종점 뒤에 여러 구간을 한 번에 등록할 수 있다")
+    @Test
+    void addSections() {
+        // when
+        ExtractableResponse<Response> response = 지하철_노선에_지하철_구간_일괄_생성_요청(신분당선.getLineId(), Arrays.asList(
+                SectionRequest.of(정자역.getId(), 미금역.getId(), 10),
+                SectionRequest.of(미금역.getId(), 판교역.getId(), 20)
+        ));
+
+        // then
+        노선_생성_응답상태_검증(response);
+        SectionBulkResponse bulkResponse = response.as(SectionBulkResponse.class);
+        assertThat(bulkResponse.getSectionCount()).isEqualTo(2);
+        assertThat(bulkResponse.getDistance()).isEqualTo(30);
+        assertThat(지하철_노선_조회_요청(신분당선.getLineId()).as(LineAndSectionResponse.class).getStations())
+                .extracting(StationResponse::getName)
+                .containsExactly(강남역_이름, 정자역_이름, 미금역_이름, 판교역_이름);
+    }
+
+    /**
+     * When 하행 종점부터 이어지지 않는 구간들을 한 번에 등록하면
+     * Then 구간 추가 실패 응답을 받고, 어떤 구간도 등록되지 않는다
+     */
+    @DisplayName("한 번에 등록하는 구간들이 이어지지 않으면 모두 등록하지 않는다")
+    @Test
+    void addSections_notConnected_fail() {
+        // when
+        ExtractableResponse<Response> response = 지하철_노선에_지하철_구간_일괄_생성_요청(신분당선.getLineId(), Arrays.asList(
+                SectionRequest.of(정자역.getId(), 미금역.getId(), 10),
+                SectionRequest.of(정자역.getId(), 판교역.getId(), 20)
+        ));
+
+        // then
+        노선_생성_실패_응답상태_검증(response);
+        assertThat(지하철_노선_조회_요청(신분당선.getLineId()).as(LineAndSectionResponse.class).getStations())
+                .extracting(StationResponse::getName)
+                .containsExactly(강남역_이름, 정자역_이름);
+    }
+
     /**
      * Given 3개의 역을 이용하여 지하철 노선 생성한다
      * When 첫 번째 역을 삭제한다
@@ -0,0 +1,131 @@
+package nextstep.subway.acceptance;
+
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import nextstep.subway.acceptance.step_feature.StationStepFeature;
+import nextstep.subway.applicaion.dto.LineAndSectionResponse;
+import nextstep.subway.applicaion.dto.NetworkImportResponse;
+import nextstep.subway.applicaion.dto.StationResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.util.List;
+import java.util.Map;
+
+import static java.util.stream.Collectors.toMap;
+import static nextstep.subway.acceptance.step_feature.LineStepFeature.지하철_노선_목록_조회_요청;
+import static nextstep.subway.acceptance.step_feature.NetworkImportStepFeature.*;
+import static nextstep.subway.acceptance.step_feature.PathServiceStepFeature.최단거리_조회_요청;
+import static nextstep.subway.acceptance.step_feature.StationStepFeature.모든_지하철역_조회_요청;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("노선도 가져오기 기능")
+class NetworkImportAcceptanceTest extends AcceptanceTest {
+
+    private static final String 역_파일 = 파일_내용(역_파일_머리글, "강남역", "판교역", "정자역", "미금역");
+
+    @BeforeEach
+    void setUpStation() {
+        StationStepFeature.지하철역_생성_조회_요청("교대역");
+    }
+
+    /**
+     * Given 이미 등록된 역이 있고
+     * When 순서가 섞인 구간 파일로 노선도를 가져오면
+     * Then 새 역과 노선, 구간이 등록되고 노선의 역은 상행 종점부터 이어진다
+     * Then 가져온 노선도로 경로를 찾을 수 있다
+     */
+    @DisplayName("역 파일과 구간 파일로 노선도를 가져온다")
+    @Test
+    void importNetwork() {
+        // given
+        String 구간_파일 = 파일_내용(구간_파일_머리글,
+                "신분당선,red,정자역,미금역,10",
+                "2호선,green,교대역,강남역,3",
+                "신분당선,red,강남역,판교역,5",
+                "신분당선,red,판교역,정자역,7");
+
+        // when
+        ExtractableResponse<Response> response = 노선도_가져오기_요청(역_파일, 구간_파일);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        NetworkImportResponse importResponse = response.as(NetworkImportResponse.class);
+        assertThat(importResponse.getStations()).isEqualTo(4);
+        assertThat(importResponse.getLines()).isEqualTo(2);
+        assertThat(importResponse.getSections()).isEqualTo(4);
+        assertThat(importResponse.getRows()).isEqualTo(8);
+
+        List<LineAndSectionResponse> lines = 지하철_노선_목록_조회_요청().jsonPath().getList(".", LineAndSectionResponse.class);
+        assertThat(lines).extracting(LineAndSectionResponse::getLineName).containsExactly("신분당선", "2호선");
+        assertThat(lines.get(0).getStations())
+                .extracting(StationResponse::getName)
+                .containsExactly("강남역", "판교역", "정자역", "미금역");
+
+        Map<String, Long> 역 = 모든_지하철역_조회_요청().jsonPath().getList(".", StationResponse.class)
+                .stream()
+                .collect(toMap(StationResponse::getName, StationResponse::getId));
+        assertThat(최단거리_조회_요청(역.get("교대역"), 역.get("미금역")).getDistance()).isEqualTo(25);
+    }
+
+    /**
+     * When 갈림길이 있는 구간 파일로 노선도를 가져오면
+     * Then 400 status code를 응답하고 역도 등록되지 않는다
+     */
+    @DisplayName("한 줄로 이어지지 않는 노선이 있으면 아무것도 가져오지 않는다")
+    @Test
+    void importNetwork_notChained_fail() {
+        // given
+        String 구간_파일 = 파일_내용(구간_파일_머리글,
+                "신분당선,red,강남역,판교역,5",
+                "신분당선,red,강남역,정자역,7");
+
+        // when
+        ExtractableResponse<Response> response = 노선도_가져오기_요청(역_파일, 구간_파일);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        assertThat(모든_지하철역_조회_요청().jsonPath().getList("name")).containsExactly("교대역");
+        assertThat(지하철_노선_목록_조회_요청().jsonPath().getList(".")).isEmpty();
+    }
+
+    /**
+     * When 등록되지 않은 역을 쓰는 구간 파일로 노선도를 가져오면
+     * Then 400 status code를 응답한다
+     */
+    @DisplayName("역 파일에도 없고 등록되지도 않은 역이 있으면 가져오지 않는다")
+    @Test
+    void importNetwork_unknownStation_fail() {
+        // given
+        String 구간_파일 = 파일_내용(구간_파일_머리글, "신분당선,red,강남역,광교역,5");
+
+        // when
+        ExtractableResponse<Response> response = 노선도_가져오기_요청(역_파일, 구간_파일);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    /**
+     * When 같은 노선을 다른 색으로 적은 구간 파일로 노선도를 가져오면
+     * Then 400 status code를 응답하고 노선도 등록되지 않는다
+     */
+    @DisplayName("같은 노선의 색이 행마다 다르면 가져오지 않는다")
+    @Test
+    void importNetwork_colorMismatch_fail() {
+        // given
+        String 구간_파일 = 파일_내용(구간_파일_머리글,
+                "신분당선,red,강남역,판교역,5",
+                "신분당선,blue,판교역,정자역,7");
+
+        // when
+        ExtractableResponse<Response> response = 노선도_가져오기_요청(역_파일, 구간_파일);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        assertThat(지하철_노선_목록_조회_요청().jsonPath().getList(".")).isEmpty();
+    }
+
+}
@@ -3,17 +3,29 @@ package nextstep.subway.acceptance;
 import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
 import nextstep.subway.acceptance.step_feature.StationStepFeature;
+import nextstep.subway.applicaion.dto.DistanceResponse;
+import nextstep.subway.applicaion.dto.JourneyResponse;
+import nextstep.subway.applicaion.dto.LineAndSectionResponse;
+import nextstep.subway.applicaion.dto.PathBatchRequest;
+import nextstep.subway.applicaion.dto.PathBatchResponse;
+import nextstep.subway.applicaion.dto.PathRequest;
 import nextstep.subway.applicaion.dto.PathResponse;
+import nextstep.subway.applicaion.dto.PathsResponse;
 import nextstep.subway.applicaion.dto.StationResponse;
+import nextstep.subway.applicaion.dto.TransferPathResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
 
+import java.time.LocalTime;
 import java.util.Arrays;
+import java.util.Collections;
 
 import static nextstep.subway.acceptance.step_feature.LineStepFeature.*;
 import static nextstep.subway.acceptance.step_feature.PathServiceStepFeature.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 @DisplayName("지하철 노선 관리 기능")
 class PathAcceptanceTest extends AcceptanceTest {
@@ -21,6 +33,7 @@ class PathAcceptanceTest extends AcceptanceTest {
     private StationResponse 강남역;
     private StationResponse 판교역;
     private StationResponse 교대역;
+    private LineAndSectionResponse 신분당선;
 
     @BeforeEach
     void setUpStation() {
@@ -28,7 +41,7 @@ class PathAcceptanceTest extends AcceptanceTest {
         판교역 = StationStepFeature.지하철역_생성_조회_요청("판교역");
         교대역 = StationStepFeature.지하철역_생성_조회_요청("교대역");
 
-        지하철_노선_생성_조회_요청(노선_생성_Param_생성("신분당선", 신분당선_색, 강남역.getId(), 판교역.getId(), 30));
+        신분당선 = 지하철_노선_생성_조회_요청(노선_생성_Param_생성("신분당선", 신분당선_색, 강남역.getId(), 판교역.getId(), 30));
         지하철_노선_생성_조회_요청(노선_생성_Param_생성("2호선", "green", 교대역.getId(), 강남역.getId(), 40));
 
     }
@@ -79,4 +92,151 @@ class PathAcceptanceTest extends AcceptanceTest {
         최단경로_조회_응답상태_검증(response, HttpStatus.BAD_REQUEST);
     }
 
+    /**
+     * When 두 역 사이의 최단 거리를 요청하면
+     * Then 경로의 역 목록 없이 거리만 응답 받는다
+     */
+    @DisplayName("최단 거리 조회")
+    @Test
+    void findDistance() {
+        // when
+        DistanceResponse response = 최단거리_조회_요청(판교역.getId(), 교대역.getId());
+
+        // then
+        assertThat(response.getSource()).isEqualTo(판교역.getId());
+        assertThat(response.getTarget()).isEqualTo(교대역.getId());
+        assertThat(response.getDistance()).isEqualTo(70);
+    }
+
+    /**
+     * When 여러 출발역과 도착역 쌍의 경로를 한 번에 요청하면
+     * Then 요청 순서대로 경로를 응답 받고, 실패한 쌍은 오류 메시지를 응답 받는다
+     */
+    @DisplayName("여러 경로 일괄 조회")
+    @Test
+    void findShortestPaths() {
+        // given
+        PathBatchRequest request = PathBatchRequest.of(Arrays.asList(
+                PathRequest.of(판교역.getId(), 교대역.getId()),
+                PathRequest.of(판교역.getId(), 판교역.getId())
+        ));
+
+        // when
+        PathBatchResponse response = 최단경로_일괄_조회_요청_응답(request);
+
+        // then
+        assertThat(response.getPaths()).hasSize(2);
+        assertThat(response.getPaths().get(0).getStations())
+                .extracting(PathResponse.StationResponse::getName)
+                .containsExactly(판교역.getName(), 강남역.getName(), 교대역.getName());
+        assertThat(response.getPaths().get(1).getError()).isNotNull();
+    }
+
+    /**
+     * When 경로 쌍을 하나도 담지 않고 일괄 조회를 요청하면
+     * Then 400 status code를 응답한다.
+     */
+    @DisplayName("빈 경로 목록으로 일괄 조회하면 400응답을 받는다")
+    @Test
+    void findShortestPaths_empty() {
+        // when
+        ExtractableResponse<Response> response = 최단경로_일괄_조회_요청(PathBatchRequest.of(Collections.emptyList()));
+
+        // then
+        최단경로_조회_응답상태_검증(response, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * When 빈 항목이 섞인 경로 목록으로 일괄 조회를 요청하면
+     * Then 400 status code를 응답한다.
+     */
+    @DisplayName("빈 항목이 섞인 경로 목록으로 일괄 조회하면 400응답을 받는다")
+    @Test
+    void findShortestPaths_nullPath() {
+        // given
+        PathBatchRequest request = PathBatchRequest.of(Arrays.asList(
+                PathRequest.of(판교역.getId(), 교대역.getId()),
+                null
+        ));
+
+        // when
+        ExtractableResponse<Response> response = 최단경로_일괄_조회_요청(request);
+
+        // then
+        최단경로_조회_응답상태_검증(response, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Given 두 역을 잇는 다른 노선을 추가하고
+     * When 경로를 여러 개 요청하면
+     * Then 짧은 순서대로 경로들을 응답 받는다
+     */
+    @DisplayName("여러 경로 조회")
+    @Test
+    void findShortestPaths_count() {
+        // given
+        지하철_노선_생성_조회_요청(노선_생성_Param_생성("3호선", "orange", 교대역.getId(), 판교역.getId(), 100));
+
+        // when
+        PathsResponse response = 최단경로_여러개_조회_요청(판교역.getId(), 교대역.getId(), 3);
+
+        // then
+        assertThat(response.getPaths()).hasSize(2);
+        최단경로_조회_응답_검증(response.getPaths().get(0), Arrays.asList(판교역.getName(), 강남역.getName(), 교대역.getName()));
+        최단경로_조회_응답_검증(response.getPaths().get(1), Arrays.asList(판교역.getName(), 교대역.getName()));
+    }
+
+    /**
+     * Given 두 역을 한 번에 잇는 다른 노선을 추가하고
+     * When 환승 벌점을 주고 환승 경로를 요청하면
+     * Then 환승 횟수와 노선별 구간을 응답 받는다
+     */
+    @DisplayName("환승 경로 조회")
+    @Test
+    void findTransferPath() {
+        // given
+        지하철_노선_생성_조회_요청(노선_생성_Param_생성("3호선", "orange", 교대역.getId(), 판교역.getId(), 100));
+
+        // when
+        TransferPathResponse 환승_허용 = 환승경로_조회_요청(판교역.getId(), 교대역.getId(), 0);
+        TransferPathResponse 환승_회피 = 환승경로_조회_요청(판교역.getId(), 교대역.getId(), 50);
+
+        // then
+        assertThat(환승_허용.getTransferCount()).isEqualTo(1);
+        assertThat(환승_허용.getLegs())
+                .extracting(TransferPathResponse.LegResponse::getLineName)
+                .containsExactly("신분당선", "2호선");
+        assertThat(환승_회피.getTransferCount()).isZero();
+        assertThat(환승_회피.getDistance()).isEqualTo(100);
+        assertThat(환승_회피.getLegs())
+                .extracting(TransferPathResponse.LegResponse::getLineName)
+                .containsExactly("3호선");
+    }
+
+    /**
+     * Given 노선의 시간표를 바꾸고
+     * When 출발 시각을 정해 가장 빨리 도착하는 경로를 요청하면
+     * Then 노선별 승차 구간과 출발, 도착 시각을 응답 받는다
+     */
+    @DisplayName("시간표 기준 가장 빠른 도착 경로 조회")
+    @Test
+    void findEarliestArrival() {
+        // given
+        지하철_노선_시간표_수정_요청(신분당선.getLineId(), 시간표_Param_생성("06:00", "23:00", 60, 60));
+
+        // when
+        JourneyResponse response = 가장_빠른_도착경로_조회_요청(판교역.getId(), 교대역.getId(), "06:00");
+
+        // then
+        assertThat(response.getArrivalTime()).isEqualTo(LocalTime.of(7, 10));
+        assertThat(response.getTransferCount()).isEqualTo(1);
+        assertThat(response.getLegs())
+                .extracting(JourneyResponse.LegResponse::getLineName,
+                        JourneyResponse.LegResponse::getDepartureTime, JourneyResponse.LegResponse::getArrivalTime)
+                .containsExactly(
+                        tuple("신분당선", LocalTime.of(6, 0), LocalTime.of(6, 30)),
+                        tuple("2호선", LocalTime.of(6, 30), LocalTime.of(7, 10))
+                );
+    }
+
 }
@@ -3,10 +3,14 @@ package nextstep.subway.acceptance.step_feature;
 import io.restassured.RestAssured;
 import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
+import nextstep.subway.applicaion.dto.DirectRideResponse;
 import nextstep.subway.applicaion.dto.LineAndSectionResponse;
+import nextstep.subway.applicaion.dto.SectionBulkRequest;
+import nextstep.subway.applicaion.dto.SectionRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -54,6 +58,21 @@ public class LineStepFeature {
                 .extract();
     }
 
+    public static List<DirectRideResponse> 환승없는_노선_조회_요청(long sourceId, long targetId) {
+        DirectRideResponse[] rides = RestAssured.given()
+                .log()
+                .all()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when()
+                .get("/lines/direct-rides?source={sourceId}&target={targetId}", sourceId, targetId)
+                .then()
+                .log()
+                .all()
+                .extract()
+                .as(DirectRideResponse[].class);
+        return Arrays.asList(rides);
+    }
+
     public static ExtractableResponse<Response> 지하철_노선_생성_요청(Map<String, String> params) {
         return RestAssured.given()
                 .log()
@@ -82,6 +101,20 @@ public class LineStepFeature {
                 .extract();
     }
 
+    public static ExtractableResponse<Response> 지하철_노선_시간표_수정_요청(long id, Map<String, String> params) {
+        return RestAssured.given()
+                .log()
+                .all()
+                .body(params)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when()
+                .put("/lines/{id}/timetable", id)
+                .then()
+                .log()
+                .all()
+                .extract();
+    }
+
     public static ExtractableResponse<Response> 지하철_노선_삭제_요청(long id) {
         return RestAssured.given()
                 .log()
@@ -114,6 +147,20 @@ public class LineStepFeature {
                 .extract();
     }
 
+    public static ExtractableResponse<Response> 지하철_노선에_지하철_구간_일괄_생성_요청(long lineId, List<SectionRequest> sections) {
+        return RestAssured.given()
+                .log()
+                .all()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(SectionBulkRequest.of(sections))
+                .when()
+                .post("/lines/{lineId}/sections/bulk", lineId)
+                .then()
+                .log()
+                .all()
+                .extract();
+    }
+
     public static ExtractableResponse<Response> 지하철_노선에_지하철_구간_제거_요청(long lineId, long stationId) {
         return RestAssured.given()
                 .log()
@@ -148,6 +195,17 @@ public class LineStepFeature {
         return params;
     }
 
+    public static Map<String, String> 시간표_Param_생성(String firstDepartureTime, String lastDepartureTime,
+                                                 int headwayMinutes, int secondsPerDistance) {
+        Map<String, String> params = new HashMap();
+        params.put("firstDepartureTime", firstDepartureTime);
+        params.put("lastDepartureTime", lastDepartureTime);
+        params.put("headwayMinutes", String.valueOf(headwayMinutes));
+        params.put("secondsPerDistance", String.valueOf(secondsPerDistance));
+
+        return params;
+    }
+
     public static void 노선_생성_응답상태_검증(ExtractableResponse<Response> response) {
         노선_응답_상태코드_검증(response.statusCode(), HttpStatus.CREATED);
         assertThat(response.header("Location")).isNotBlank();
@@ -0,0 +1,34 @@
+package nextstep.subway.acceptance.step_feature;
+
+import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+
+public class NetworkImportStepFeature {
+
+    public static final String 역_파일_머리글 = "name";
+    public static final String 구간_파일_머리글 = "line,color,up_station,down_station,distance";
+
+    public static ExtractableResponse<Response> 노선도_가져오기_요청(String stations, String sections) {
+        return RestAssured.given()
+                .log()
+                .all()
+                .contentType(MediaType.MULTIPART_FORM_DATA_VALUE)
+                .multiPart("stations", "stations.csv", stations.getBytes(StandardCharsets.UTF_8), "text/csv")
+                .multiPart("sections", "sections.csv", sections.getBytes(StandardCharsets.UTF_8), "text/csv")
+                .when()
+                .post("/admin/network/import")
+                .then()
+                .log()
+                .all()
+                .extract();
+    }
+
+    public static String 파일_내용(String header, String... rows) {
+        return header + "\n" + String.join("\n", rows) + "\n";
+    }
+
+}
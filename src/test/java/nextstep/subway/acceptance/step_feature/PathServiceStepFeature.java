@@ -3,7 +3,13 @@ package nextstep.subway.acceptance.step_feature;
 import io.restassured.RestAssured;
 import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
+import nextstep.subway.applicaion.dto.DistanceResponse;
+import nextstep.subway.applicaion.dto.JourneyResponse;
+import nextstep.subway.applicaion.dto.PathBatchRequest;
+import nextstep.subway.applicaion.dto.PathBatchResponse;
 import nextstep.subway.applicaion.dto.PathResponse;
+import nextstep.subway.applicaion.dto.PathsResponse;
+import nextstep.subway.applicaion.dto.TransferPathResponse;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 
@@ -32,6 +38,83 @@ public class PathServiceStepFeature {
                 .extract();
     }
 
+    public static PathsResponse 최단경로_여러개_조회_요청(long sourceId, long targetId, int count) {
+        return RestAssured.given()
+                .log()
+                .all()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when()
+                .get("/paths?source={sourceId}&target={targetId}&count={count}", sourceId, targetId, count)
+                .then()
+                .log()
+                .all()
+                .extract()
+                .as(PathsResponse.class);
+    }
+
+    public static TransferPathResponse 환승경로_조회_요청(long sourceId, long targetId, int transferPenalty) {
+        return RestAssured.given()
+                .log()
+                .all()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when()
+                .get("/paths/transfer?source={sourceId}&target={targetId}&transferPenalty={transferPenalty}",
+                        sourceId, targetId, transferPenalty)
+                .then()
+                .log()
+                .all()
+                .extract()
+                .as(TransferPathResponse.class);
+    }
+
+    public static DistanceResponse 최단거리_조회_요청(long sourceId, long targetId) {
+        return RestAssured.given()
+                .log()
+                .all()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when()
+                .get("/paths/distance?source={sourceId}&target={targetId}", sourceId, targetId)
+                .then()
+                .log()
+                .all()
+                .extract()
+                .as(DistanceResponse.class);
+    }
+
+    public static JourneyResponse 가장_빠른_도착경로_조회_요청(long sourceId, long targetId, String departureTime) {
+        return RestAssured.given()
+                .log()
+                .all()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when()
+                .get("/paths/earliest-arrival?source={sourceId}&target={targetId}&departureTime={departureTime}",
+                        sourceId, targetId, departureTime)
+                .then()
+                .log()
+                .all()
+                .extract()
+                .as(JourneyResponse.class);
+    }
+
+    public static PathBatchResponse 최단경로_일괄_조회_요청_응답(PathBatchRequest request) {
+        return 최단경로_일괄_조회_요청(request)
+                .as(PathBatchResponse.class);
+    }
+
+    public static ExtractableResponse<Response> 최단경로_일괄_조회_요청(PathBatchRequest request) {
+        return RestAssured.given()
+                .log()
+                .all()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(request)
+                .when()
+                .post("/paths/batch")
+                .then()
+                .log()
+                .all()
+                .extract();
+    }
+
     public static void 최단경로_조회_응답상태_검증(ExtractableResponse<Response> response, HttpStatus httpStatus) {
         assertThat(response.statusCode()).isEqualTo(httpStatus.value());
     }
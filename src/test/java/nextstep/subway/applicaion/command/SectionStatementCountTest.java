@@ -0,0 +1,143 @@
+package nextstep.subway.applicaion.command;
+
+import nextstep.subway.applicaion.dto.SectionRequest;
+import nextstep.subway.domain.Line;
+import nextstep.subway.domain.LineRepository;
+import nextstep.subway.domain.Station;
+import nextstep.subway.domain.StationRepository;
+import nextstep.subway.utils.SqlStatementCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("구간 변경 시 실행되는 SQL 수")
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "nextstep.subway.utils.SqlStatementCounter")
+@Transactional
+class SectionStatementCountTest {
+
+    private static final int STATION_COUNT = 50;
+
+    @Autowired
+    private StationRepository stationRepository;
+    @Autowired
+    private LineRepository lineRepository;
+    @Autowired
+    private LineCommandService lineCommandService;
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private List<Station> stations;
+    private Line 긴노선;
+
+    @BeforeEach
+    void setUp() {
+        stations = new ArrayList<>();
+        for (int i = 0; i < STATION_COUNT; i++) {
+            stations.add(stationRepository.save(Station.of("역" + i)));
+        }
+
+        Line line = Line.of("긴노선", "red", stations.get(0), stations.get(1), 10);
+        for (int i = 2; i < STATION_COUNT; i++) {
+            line.addSection(stations.get(i - 1), stations.get(i), 10);
+        }
+        긴노선 = lineRepository.save(line);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @DisplayName("노선 맨 앞에 구간을 추가해도 뒤 구간들의 순서를 다시 쓰지 않는다")
+    @Test
+    void addSection_first() {
+        // given
+        Station 새역 = stationRepository.save(Station.of("새역"));
+        entityManager.flush();
+        SqlStatementCounter.clear();
+
+        // when
+        lineCommandService.addSection(긴노선.getId(), SectionRequest.of(새역.getId(), stations.get(0).getId(), 5));
+        entityManager.flush();
+
+        // then
+        assertThat(SqlStatementCounter.count("insert")).isEqualTo(1);
+        assertThat(SqlStatementCounter.count("update")).isZero();
+        assertThat(findStations()).startsWith(새역, stations.get(0), stations.get(1))
+                .hasSize(STATION_COUNT + 1);
+    }
+
+    @DisplayName("노선 앞쪽에 구간을 끼워 넣으면 나뉘는 구간 하나만 고치고 뒤 구간들의 순서는 다시 쓰지 않는다")
+    @Test
+    void addSection_nearFirst() {
+        // given
+        Station 새역 = stationRepository.save(Station.of("새역"));
+        entityManager.flush();
+        SqlStatementCounter.clear();
+
+        // when
+        lineCommandService.addSection(긴노선.getId(), SectionRequest.of(stations.get(0).getId(), 새역.getId(), 5));
+        entityManager.flush();
+
+        // then
+        assertThat(SqlStatementCounter.count("update")).isEqualTo(1);
+        assertThat(SqlStatementCounter.count("insert")).isEqualTo(1);
+        assertThat(SqlStatementCounter.count("delete")).isZero();
+        assertThat(findStations()).startsWith(stations.get(0), 새역, stations.get(1))
+                .hasSize(STATION_COUNT + 1);
+    }
+
+    @DisplayName("중간에 구간을 추가하면 나뉘는 구간 하나를 고치고 구간 하나를 추가한다")
+    @Test
+    void addSection_middle() {
+        // given
+        Station 새역 = stationRepository.save(Station.of("새역"));
+        entityManager.flush();
+        SqlStatementCounter.clear();
+
+        // when
+        lineCommandService.addSection(긴노선.getId(),
+                SectionRequest.of(stations.get(24).getId(), 새역.getId(), 4));
+        entityManager.flush();
+
+        // then
+        assertThat(SqlStatementCounter.count("update")).isEqualTo(1);
+        assertThat(SqlStatementCounter.count("insert")).isEqualTo(1);
+        assertThat(SqlStatementCounter.count("delete")).isZero();
+        assertThat(findStations().subList(24, 27)).containsExactly(stations.get(24), 새역, stations.get(25));
+    }
+
+    @DisplayName("중간 역을 삭제하면 앞 구간 하나를 고치고 뒤 구간 하나를 지운다")
+    @Test
+    void deleteSection_middle() {
+        // given
+        SqlStatementCounter.clear();
+
+        // when
+        lineCommandService.deleteSection(긴노선.getId(), stations.get(24).getId());
+        entityManager.flush();
+
+        // then
+        assertThat(SqlStatementCounter.count("update")).isEqualTo(1);
+        assertThat(SqlStatementCounter.count("delete")).isEqualTo(1);
+        assertThat(SqlStatementCounter.count("insert")).isZero();
+        assertThat(findStations()).doesNotContain(stations.get(24))
+                .hasSize(STATION_COUNT - 1);
+    }
+
+    private List<Station> findStations() {
+        entityManager.clear();
+        return lineRepository.findById(긴노선.getId())
+                .orElseThrow(IllegalStateException::new)
+                .getStations();
+    }
+
+}
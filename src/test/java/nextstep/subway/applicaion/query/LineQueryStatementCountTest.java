@@ -0,0 +1,83 @@
+package nextstep.subway.applicaion.query;
+
+import nextstep.subway.applicaion.dto.LineAndSectionResponse;
+import nextstep.subway.domain.Line;
+import nextstep.subway.domain.LineRepository;
+import nextstep.subway.domain.Station;
+import nextstep.subway.domain.StationRepository;
+import nextstep.subway.utils.SqlStatementCounter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("노선 목록 조회 시 실행되는 SQL 수")
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "nextstep.subway.utils.SqlStatementCounter")
+@Transactional
+class LineQueryStatementCountTest {
+
+    private static final int STATION_COUNT = 5;
+
+    @Autowired
+    private StationRepository stationRepository;
+    @Autowired
+    private LineRepository lineRepository;
+    @Autowired
+    private LineQueryService lineQueryService;
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private int lineCount;
+
+    @DisplayName("노선이 늘어도 노선 목록 조회의 SELECT 수는 그대로다")
+    @Test
+    void findAllLines() {
+        // given
+        saveLines(2);
+        long selectCount = countSelects();
+
+        // when
+        saveLines(8);
+        long moreLinesSelectCount = countSelects();
+
+        // then
+        assertThat(selectCount).isEqualTo(1);
+        assertThat(moreLinesSelectCount).isEqualTo(selectCount);
+    }
+
+    private long countSelects() {
+        entityManager.flush();
+        entityManager.clear();
+        SqlStatementCounter.clear();
+
+        List<LineAndSectionResponse> lines = lineQueryService.findAllLines();
+
+        assertThat(lines).hasSize(lineCount)
+                .allSatisfy(it -> assertThat(it.getStations()).hasSize(STATION_COUNT));
+        return SqlStatementCounter.count("select");
+    }
+
+    private void saveLines(int count) {
+        for (int i = 0; i < count; i++) {
+            String lineName = "노선" + lineCount++;
+            Line line = Line.of(lineName, "red", saveStation(lineName, 0), saveStation(lineName, 1), 10);
+            for (int j = 2; j < STATION_COUNT; j++) {
+                line.addSection(line.getStations().get(j - 1), saveStation(lineName, j), 10);
+            }
+            lineRepository.save(line);
+        }
+    }
+
+    private Station saveStation(String lineName, int index) {
+        return stationRepository.save(Station.of(lineName + "역" + index));
+    }
+
+}
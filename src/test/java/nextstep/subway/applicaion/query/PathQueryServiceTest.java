@@ -1,25 +1,31 @@
 package nextstep.subway.applicaion.query;
 
+import nextstep.subway.applicaion.command.LineCommandService;
+import nextstep.subway.applicaion.dto.PathBatchRequest;
+import nextstep.subway.applicaion.dto.PathBatchResponse;
+import nextstep.subway.applicaion.dto.PathRequest;
 import nextstep.subway.applicaion.dto.PathResponse;
+import nextstep.subway.applicaion.dto.ReachableStationsResponse;
+import nextstep.subway.applicaion.dto.SectionRequest;
 import nextstep.subway.domain.Line;
 import nextstep.subway.domain.LineRepository;
 import nextstep.subway.domain.Station;
 import nextstep.subway.domain.StationRepository;
 import nextstep.subway.exception.station.StationNotFoundException;
+import nextstep.subway.utils.DatabaseCleanup;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
 
 @SpringBootTest
-@Transactional
 @DisplayName("지하철 경로 탐색")
 class PathQueryServiceTest {
 
@@ -29,6 +35,12 @@ class PathQueryServiceTest {
     private StationRepository stationRepository;
     @Autowired
     private PathQueryService pathQueryService;
+    @Autowired
+    private ShortestPathCheckerCache shortestPathCheckerCache;
+    @Autowired
+    private LineCommandService lineCommandService;
+    @Autowired
+    private DatabaseCleanup databaseCleanup;
 
     private Station 교대역;
     private Station 남부터미널역;
@@ -41,6 +53,7 @@ class PathQueryServiceTest {
 
     @BeforeEach
     void setUp() {
+        databaseCleanup.execute();
         교대역 = Station.of("교대역");
         남부터미널역 = Station.of("남부터미널역");
         강남역 = Station.of("강남역");
@@ -63,6 +76,7 @@ class PathQueryServiceTest {
         lineRepository.save(신분당선);
         lineRepository.save(이호선);
         lineRepository.save(삼호선);
+        shortestPathCheckerCache.invalidate();
     }
 
     @DisplayName("가장 빠른 경로 찾기")
@@ -74,6 +88,25 @@ class PathQueryServiceTest {
         // then
         List<String> names = names(response);
         Assertions.assertThat(names).containsExactly(교대역.getName(), 남부터미널역.getName(), 양재역.getName());
+        Assertions.assertThat(response.getStations())
+                .extracting(PathResponse.StationResponse::getCreatedAt)
+                .doesNotContainNull();
+    }
+
+    @DisplayName("노선이 변경되면 이전에 찾은 경로를 재사용하지 않는다")
+    @Test
+    void findPath_afterAddSection() {
+        // given
+        pathQueryService.findPath(교대역.getId(), 양재역.getId());
+        Station 신사역 = stationRepository.save(Station.of("신사역"));
+
+        // when
+        lineCommandService.addSection(삼호선.getId(), SectionRequest.of(교대역.getId(), 신사역.getId(), 5));
+        PathResponse response = pathQueryService.findPath(양재역.getId(), 교대역.getId());
+
+        // then
+        List<String> names = names(response);
+        Assertions.assertThat(names).containsExactly(양재역.getName(), 남부터미널역.getName(), 신사역.getName(), 교대역.getName());
     }
 
     @DisplayName("없는 역을 요청할 경우 예외 처리")
@@ -87,6 +120,47 @@ class PathQueryServiceTest {
                 .isInstanceOf(StationNotFoundException.class);
     }
 
+    @DisplayName("여러 경로를 한 번에 찾고 실패한 경로는 오류로 응답한다")
+    @Test
+    void findPaths() {
+        // given
+        long 없는역Id = 1000;
+        PathBatchRequest request = PathBatchRequest.of(Arrays.asList(
+                PathRequest.of(교대역.getId(), 양재역.getId()),
+                PathRequest.of(판교역.getId(), 판교역.getId()),
+                PathRequest.of(교대역.getId(), 없는역Id)
+        ));
+
+        // when
+        PathBatchResponse response = pathQueryService.findPaths(request);
+
+        // then
+        List<PathBatchResponse.PathResult> results = response.getPaths();
+        Assertions.assertThat(results).hasSize(3);
+        Assertions.assertThat(results.get(0).getError()).isNull();
+        Assertions.assertThat(results.get(0).getStations())
+                .extracting(PathResponse.StationResponse::getName)
+                .containsExactly(교대역.getName(), 남부터미널역.getName(), 양재역.getName());
+        Assertions.assertThat(results.get(1).getError()).isNotNull();
+        Assertions.assertThat(results.get(2).getError()).isNotNull();
+        Assertions.assertThat(results.get(2).getTarget()).isEqualTo(없는역Id);
+    }
+
+    @DisplayName("최대 거리 안에서 도달할 수 있는 역을 찾는다")
+    @Test
+    void findReachableStations() {
+        // when
+        ReachableStationsResponse response = pathQueryService.findReachableStations(교대역.getId(), 50);
+
+        // then
+        Assertions.assertThat(response.getStations())
+                .extracting(ReachableStationsResponse.ReachableStationResponse::getName)
+                .containsExactly(교대역.getName(), 남부터미널역.getName(), 양재역.getName(), 강남역.getName());
+        Assertions.assertThat(response.getStations())
+                .extracting(ReachableStationsResponse.ReachableStationResponse::getDistance)
+                .containsExactly(0, 20, 40, 50);
+    }
+
     private List<String> names(PathResponse response) {
         return response.getStations()
                 .stream()
@@ -0,0 +1,91 @@
+package nextstep.subway.applicaion.query;
+
+import nextstep.subway.domain.Station;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("최단 경로 결과 캐시")
+class PathResultCacheTest {
+
+    private static final long VERSION = 1L;
+
+    private Station 강남역;
+    private Station 양재역;
+    private Station 판교역;
+    private List<Station> path;
+
+    @BeforeEach
+    void setUp() {
+        강남역 = Station.of("강남역");
+        양재역 = Station.of("양재역");
+        판교역 = Station.of("판교역");
+        path = Arrays.asList(강남역, 양재역, 판교역);
+    }
+
+    @DisplayName("같은 버전으로 저장된 경로를 돌려준다")
+    @Test
+    void get_hit() {
+        // given
+        PathResultCache cache = new PathResultCache(100);
+        cache.put(1L, 3L, VERSION, path);
+
+        // when
+        List<Station> cachedPath = cache.get(1L, 3L, VERSION);
+
+        // then
+        assertThat(cachedPath).containsExactly(강남역, 양재역, 판교역);
+        assertThat(cache.getStatistics()).containsEntry("hits", 1L).containsEntry("misses", 0L);
+    }
+
+    @DisplayName("출발역과 도착역이 뒤바뀌면 저장된 경로를 뒤집어 돌려준다")
+    @Test
+    void get_reversedPair() {
+        // given
+        PathResultCache cache = new PathResultCache(100);
+        cache.put(1L, 3L, VERSION, path);
+
+        // when
+        List<Station> cachedPath = cache.get(3L, 1L, VERSION);
+
+        // then
+        assertThat(cachedPath).containsExactly(판교역, 양재역, 강남역);
+    }
+
+    @DisplayName("노선 버전이 바뀌면 저장된 경로를 돌려주지 않는다")
+    @Test
+    void get_staleVersion() {
+        // given
+        PathResultCache cache = new PathResultCache(100);
+        cache.put(1L, 3L, VERSION, path);
+
+        // when
+        List<Station> cachedPath = cache.get(1L, 3L, VERSION + 1);
+
+        // then
+        assertThat(cachedPath).isNull();
+        assertThat(cache.getStatistics()).containsEntry("hits", 0L).containsEntry("misses", 1L);
+    }
+
+    @DisplayName("최대 크기를 넘으면 가장 오래 쓰지 않은 경로부터 내보낸다")
+    @Test
+    void put_evict() {
+        // given
+        PathResultCache cache = new PathResultCache(16);
+
+        // when
+        for (long id = 1; id <= 1000; id++) {
+            cache.put(id, id + 1, VERSION, path);
+        }
+
+        // then
+        assertThat(cache.getStatistics().get("size")).isLessThanOrEqualTo(16L);
+        assertThat(cache.getStatistics().get("evictions")).isEqualTo(1000L - cache.getStatistics().get("size"));
+    }
+
+}
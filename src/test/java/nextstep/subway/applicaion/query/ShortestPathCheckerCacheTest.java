@@ -0,0 +1,168 @@
+package nextstep.subway.applicaion.query;
+
+import nextstep.subway.applicaion.command.LineCommandService;
+import nextstep.subway.applicaion.command.StationCommandService;
+import nextstep.subway.applicaion.dto.SectionRequest;
+import nextstep.subway.domain.Line;
+import nextstep.subway.domain.LineRepository;
+import nextstep.subway.domain.ShortestPathChecker;
+import nextstep.subway.domain.Station;
+import nextstep.subway.domain.StationRepository;
+import nextstep.subway.utils.DatabaseCleanup;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DisplayName("최단 경로 그래프 캐시")
+class ShortestPathCheckerCacheTest {
+
+    @Autowired
+    private LineRepository lineRepository;
+    @Autowired
+    private StationRepository stationRepository;
+    @Autowired
+    private LineCommandService lineCommandService;
+    @Autowired
+    private StationCommandService stationCommandService;
+    @Autowired
+    private ShortestPathCheckerCache shortestPathCheckerCache;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private DatabaseCleanup databaseCleanup;
+
+    private Station 강남역;
+    private Station 양재역;
+    private Station 판교역;
+    private Line 신분당선;
+
+    @BeforeEach
+    void setUp() {
+        databaseCleanup.execute();
+        강남역 = stationRepository.save(Station.of("강남역"));
+        양재역 = stationRepository.save(Station.of("양재역"));
+        판교역 = stationRepository.save(Station.of("판교역"));
+        신분당선 = lineRepository.save(Line.of("신분당선", "red", 강남역, 판교역, 100));
+        shortestPathCheckerCache.invalidate();
+    }
+
+    @DisplayName("노선이 변경되지 않으면 같은 그래프를 재사용한다")
+    @Test
+    void get_reuseSnapshot() {
+        // when
+        ShortestPathChecker first = shortestPathCheckerCache.get();
+        ShortestPathChecker second = shortestPathCheckerCache.get();
+
+        // then
+        assertThat(first).isSameAs(second);
+    }
+
+    @DisplayName("구간이 추가되면 그래프를 다시 만든다")
+    @Test
+    void get_afterAddSection() {
+        // given
+        ShortestPathChecker before = shortestPathCheckerCache.get();
+
+        // when
+        lineCommandService.addSection(신분당선.getId(), SectionRequest.of(강남역.getId(), 양재역.getId(), 10));
+
+        // then
+        ShortestPathChecker after = shortestPathCheckerCache.get();
+        List<Station> path = after.findShortestPath(강남역, 판교역);
+        assertThat(after).isNotSameAs(before);
+        assertThat(path).containsExactly(강남역, 양재역, 판교역);
+    }
+
+    @DisplayName("구간이 삭제되면 변경된 구간만 반영한 새 버전의 그래프를 게시한다")
+    @Test
+    void apply_afterDeleteSection() {
+        // given
+        lineCommandService.addSection(신분당선.getId(), SectionRequest.of(강남역.getId(), 양재역.getId(), 10));
+        ShortestPathChecker before = shortestPathCheckerCache.get();
+        long beforeVersion = shortestPathCheckerCache.getVersion();
+
+        // when
+        lineCommandService.deleteSection(신분당선.getId(), 양재역.getId());
+
+        // then
+        ShortestPathChecker after = shortestPathCheckerCache.get();
+        assertThat(shortestPathCheckerCache.getVersion()).isEqualTo(beforeVersion + 1);
+        assertThat(after).isNotSameAs(before);
+        assertThat(after.findShortestPath(강남역, 판교역)).containsExactly(강남역, 판교역);
+        assertThat(before.findShortestPath(강남역, 판교역)).containsExactly(강남역, 양재역, 판교역);
+    }
+
+    @DisplayName("구간 변경분은 트랜잭션이 커밋된 뒤에 게시한다")
+    @Test
+    void apply_afterCommit() {
+        // given
+        ShortestPathChecker before = shortestPathCheckerCache.get();
+        long beforeVersion = shortestPathCheckerCache.getVersion();
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            lineCommandService.addSection(신분당선.getId(), SectionRequest.of(강남역.getId(), 양재역.getId(), 10));
+
+            // then
+            assertThat(shortestPathCheckerCache.getVersion()).isEqualTo(beforeVersion);
+            assertThat(shortestPathCheckerCache.get()).isSameAs(before);
+        });
+
+        // then
+        assertThat(shortestPathCheckerCache.getVersion()).isEqualTo(beforeVersion + 1);
+        assertThat(shortestPathCheckerCache.get().findShortestPath(강남역, 판교역)).containsExactly(강남역, 양재역, 판교역);
+    }
+
+    @DisplayName("구간 변경이 롤백되면 변경분을 게시하지 않고 그래프를 다시 만든다")
+    @Test
+    void apply_afterRollback() {
+        // given
+        ShortestPathChecker before = shortestPathCheckerCache.get();
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            lineCommandService.addSection(신분당선.getId(), SectionRequest.of(강남역.getId(), 양재역.getId(), 10));
+            status.setRollbackOnly();
+        });
+
+        // then
+        ShortestPathChecker after = shortestPathCheckerCache.get();
+        assertThat(after).isNotSameAs(before);
+        assertThat(after.findShortestPath(강남역, 판교역)).containsExactly(강남역, 판교역);
+    }
+
+    @DisplayName("노선이 삭제되면 그래프를 다시 만든다")
+    @Test
+    void get_afterDeleteLine() {
+        // given
+        ShortestPathChecker before = shortestPathCheckerCache.get();
+
+        // when
+        lineCommandService.deleteLine(신분당선.getId());
+
+        // then
+        assertThat(shortestPathCheckerCache.get()).isNotSameAs(before);
+    }
+
+    @DisplayName("역이 삭제되면 그래프를 다시 만든다")
+    @Test
+    void get_afterDeleteStation() {
+        // given
+        ShortestPathChecker before = shortestPathCheckerCache.get();
+
+        // when
+        stationCommandService.deleteStationById(양재역.getId());
+
+        // then
+        assertThat(shortestPathCheckerCache.get()).isNotSameAs(before);
+    }
+
+}
@@ -0,0 +1,129 @@
+package nextstep.subway.applicaion.query;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("동시 요청 합치기")
+class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    private ExecutorService executor;
+    private SingleFlight<String, Integer> singleFlight;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(CALLERS);
+        singleFlight = new SingleFlight<>();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @DisplayName("같은 키로 동시에 들어온 요청은 한 번만 계산하고 결과를 함께 받는다")
+    @Test
+    void execute_shared() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger executions = new AtomicInteger();
+
+        // when
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> singleFlight.execute("강남역-판교역", () -> {
+                executions.incrementAndGet();
+                await(release);
+                return 42;
+            })));
+        }
+        awaitShared(CALLERS - 1);
+        release.countDown();
+
+        // then
+        for (Future<Integer> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(42);
+        }
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(singleFlight.getStatistics()).containsEntry("executions", 1L)
+                .containsEntry("shared", (long) CALLERS - 1);
+    }
+
+    @DisplayName("먼저 들어온 요청이 실패하면 기다리던 요청도 같은 예외를 받는다")
+    @Test
+    void execute_failure() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        Future<Integer> leader = executor.submit(() -> singleFlight.execute("강남역-판교역", () -> {
+            await(release);
+            throw new IllegalStateException("경로 없음");
+        }));
+        awaitExecutions(1);
+
+        // when
+        Future<Integer> follower = executor.submit(() -> singleFlight.execute("강남역-판교역", () -> 42));
+        awaitShared(1);
+        release.countDown();
+
+        // then
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @DisplayName("계산이 끝난 뒤에 들어온 요청은 다시 계산한다")
+    @Test
+    void execute_afterCompletion() {
+        // when
+        singleFlight.execute("강남역-판교역", () -> 1);
+        int result = singleFlight.execute("강남역-판교역", () -> 2);
+
+        // then
+        assertThat(result).isEqualTo(2);
+        assertThat(singleFlight.getStatistics()).containsEntry("executions", 2L);
+    }
+
+    private void awaitShared(long count) throws InterruptedException {
+        awaitStatistics("shared", count);
+    }
+
+    private void awaitExecutions(long count) throws InterruptedException {
+        awaitStatistics("executions", count);
+    }
+
+    private void awaitStatistics(String name, long count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (singleFlight.getStatistics().get(name) < count && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertThat(singleFlight.getStatistics().get(name)).isEqualTo(count);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
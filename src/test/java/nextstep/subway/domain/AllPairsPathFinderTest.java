@@ -0,0 +1,78 @@
+package nextstep.subway.domain;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("전체 역 쌍 최단 경로 테이블")
+class AllPairsPathFinderTest {
+
+    private Station 교대역;
+    private Station 남부터미널역;
+    private Station 강남역;
+    private Station 양재역;
+    private StationGraph graph;
+
+    @BeforeEach
+    void setUp() {
+        교대역 = Station.of("교대역");
+        남부터미널역 = Station.of("남부터미널역");
+        강남역 = Station.of("강남역");
+        양재역 = Station.of("양재역");
+
+        Line 신분당선 = Line.of("신분당선", "red", 강남역, 양재역, 100);
+        Line 이호선 = Line.of("이호선", "green", 교대역, 강남역, 50);
+        Line 삼호선 = Line.of("삼호선", "orange", 교대역, 남부터미널역, 20);
+        삼호선.addSection(남부터미널역, 양재역, 20);
+
+        graph = StationGraph.of(Arrays.asList(신분당선, 이호선, 삼호선));
+    }
+
+    @DisplayName("테이블을 따라가며 최단 경로를 만든다")
+    @Test
+    void findPath() {
+        // given
+        AllPairsPathFinder pathFinder = AllPairsPathFinder.of(graph);
+
+        // when & then
+        assertThat(pathFinder.findPath(강남역, 양재역)).containsExactly(강남역, 교대역, 남부터미널역, 양재역);
+        assertThat(pathFinder.findPath(양재역, 강남역)).containsExactly(양재역, 남부터미널역, 교대역, 강남역);
+    }
+
+    @DisplayName("거리 테이블과 다음 역 테이블의 크기를 알려준다")
+    @Test
+    void getMemoryBytes() {
+        // when
+        AllPairsPathFinder pathFinder = AllPairsPathFinder.of(graph);
+
+        // then
+        assertThat(pathFinder.getStationCount()).isEqualTo(4);
+        assertThat(pathFinder.getMemoryBytes()).isEqualTo(4L * 4 * Integer.BYTES * 2);
+        assertThat(pathFinder.getBuildMillis()).isNotNegative();
+    }
+
+    @DisplayName("역 수의 제곱이 배열 하나에 담기지 않으면 테이블을 만들지 않는다")
+    @Test
+    void of_tooManyStations() {
+        // given
+        StationGraph.Builder builder = StationGraph.builder();
+        Station previous = Station.of("역0");
+        for (int i = 1; i <= 46_341; i++) {
+            Station next = Station.of("역" + i);
+            builder.addSection(previous, next, 1);
+            previous = next;
+        }
+        StationGraph largeGraph = builder.build();
+
+        // when & then
+        assertThat(AllPairsPathFinder.supports(largeGraph)).isFalse();
+        assertThatThrownBy(() -> AllPairsPathFinder.of(largeGraph))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
@@ -0,0 +1,63 @@
+package nextstep.subway.domain;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("랜드마크 기반 A* 최단 경로 탐색")
+class AltPathFinderTest {
+
+    private Station 강남역;
+    private Station 양재역;
+    private Station 판교역;
+    private Station 정자역;
+    private Station 미금역;
+    private Line 신분당선;
+
+    @BeforeEach
+    void setUp() {
+        강남역 = Station.of("강남역");
+        양재역 = Station.of("양재역");
+        판교역 = Station.of("판교역");
+        정자역 = Station.of("정자역");
+        미금역 = Station.of("미금역");
+
+        신분당선 = Line.of("신분당선", "red", 강남역, 양재역, 10);
+        신분당선.addSection(양재역, 판교역, 10);
+        신분당선.addSection(판교역, 정자역, 10);
+        신분당선.addSection(정자역, 미금역, 10);
+    }
+
+    @DisplayName("랜드마크는 서로 가장 먼 역부터 고른다")
+    @Test
+    void getLandmarks() {
+        // when
+        AltPathFinder pathFinder = AltPathFinder.of(StationGraph.of(Arrays.asList(신분당선)), 2);
+
+        // then
+        assertThat(pathFinder.getLandmarks()).containsExactlyInAnyOrder(강남역, 미금역);
+    }
+
+    @DisplayName("연결되지 않은 역 사이의 경로는 탐색하지 않고 없다고 판단한다")
+    @Test
+    void findPath_separated() {
+        // given
+        Station 교대역 = Station.of("교대역");
+        Station 남부터미널역 = Station.of("남부터미널역");
+        Line 삼호선 = Line.of("삼호선", "orange", 교대역, 남부터미널역, 20);
+        StationGraph graph = StationGraph.of(Arrays.asList(신분당선, 삼호선));
+        AltPathFinder pathFinder = AltPathFinder.of(graph);
+
+        // when
+        AltPathFinder.Search search = pathFinder.search(graph.indexOf(강남역), graph.indexOf(교대역));
+
+        // then
+        assertThat(search.isFound()).isFalse();
+        assertThat(search.getSettledCount()).isZero();
+    }
+
+}
@@ -0,0 +1,59 @@
+package nextstep.subway.domain;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("역 연결 요소 색인")
+class ComponentIndexTest {
+
+    private Station 강남역;
+    private Station 양재역;
+    private Station 판교역;
+    private Station 정자역;
+    private Station 미금역;
+    private ComponentIndex componentIndex;
+
+    @BeforeEach
+    void setUp() {
+        강남역 = Station.of("강남역");
+        양재역 = Station.of("양재역");
+        판교역 = Station.of("판교역");
+        정자역 = Station.of("정자역");
+        미금역 = Station.of("미금역");
+
+        Line 신분당선 = Line.of("신분당선", "red", 강남역, 양재역, 10);
+        신분당선.addSection(양재역, 판교역, 10);
+        Line 분당선 = Line.of("분당선", "yellow", 정자역, 미금역, 10);
+
+        componentIndex = ComponentIndex.of(StationGraph.of(Arrays.asList(신분당선, 분당선)));
+    }
+
+    @DisplayName("같은 연결 요소에 있는 역끼리만 이어져 있다")
+    @Test
+    void isConnected() {
+        // then
+        assertThat(componentIndex.isConnected(강남역, 판교역)).isTrue();
+        assertThat(componentIndex.isConnected(강남역, 미금역)).isFalse();
+    }
+
+    @DisplayName("노선에 등록되지 않은 역은 어떤 역과도 이어져 있지 않다")
+    @Test
+    void isConnected_notRegistered() {
+        // then
+        assertThat(componentIndex.isConnected(강남역, Station.of("교대역"))).isFalse();
+    }
+
+    @DisplayName("연결 요소 수와 요소별 역 수를 큰 순서대로 알 수 있다")
+    @Test
+    void getComponentSizes() {
+        // then
+        assertThat(componentIndex.getComponentCount()).isEqualTo(2);
+        assertThat(componentIndex.getComponentSizes()).containsExactly(3, 2);
+    }
+
+}
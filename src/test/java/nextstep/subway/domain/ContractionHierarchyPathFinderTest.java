@@ -0,0 +1,68 @@
+package nextstep.subway.domain;
+
+import nextstep.subway.utils.GridNetwork;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("축약 계층 최단 경로 탐색")
+class ContractionHierarchyPathFinderTest {
+
+    @DisplayName("지름길 간선을 풀어 원래 구간의 역 목록을 돌려준다")
+    @Test
+    void findPath_unpackShortcuts() {
+        // given
+        GridNetwork network = GridNetwork.of(10, 10, 7L);
+        StationGraph graph = StationGraph.of(network.getLines());
+        ContractionHierarchyPathFinder pathFinder = ContractionHierarchyPathFinder.of(graph);
+        Station source = network.getStation(0, 0);
+        Station target = network.getStation(9, 9);
+
+        // when
+        List<Station> path = pathFinder.findPath(source, target);
+
+        // then
+        List<Station> expected = CsrPathFinder.of(graph).findPath(source, target);
+        assertThat(pathFinder.getShortcutCount()).isPositive();
+        assertThat(distance(graph, path)).isEqualTo(distance(graph, expected));
+        assertThat(path).startsWith(source).endsWith(target);
+    }
+
+    @DisplayName("전처리 시간과 지름길 수를 통계로 제공한다")
+    @Test
+    void getStatistics() {
+        // given
+        GridNetwork network = GridNetwork.of(5, 5, 7L);
+
+        // when
+        ContractionHierarchyPathFinder pathFinder = ContractionHierarchyPathFinder.of(StationGraph.of(network.getLines()));
+
+        // then
+        assertThat(pathFinder.getStatistics())
+                .containsEntry("stations", 25L)
+                .containsEntry("shortcuts", (long) pathFinder.getShortcutCount())
+                .containsKey("preprocessMillis");
+    }
+
+    private int distance(StationGraph graph, List<Station> path) {
+        int distance = 0;
+        for (int i = 1; i < path.size(); i++) {
+            distance += edgeWeight(graph, graph.indexOf(path.get(i - 1)), graph.indexOf(path.get(i)));
+        }
+        return distance;
+    }
+
+    private int edgeWeight(StationGraph graph, int from, int to) {
+        int weight = Integer.MAX_VALUE;
+        for (int edge = graph.firstEdge(from); edge < graph.endEdge(from); edge++) {
+            if (graph.target(edge) == to) {
+                weight = Math.min(weight, graph.weight(edge));
+            }
+        }
+        return weight;
+    }
+
+}
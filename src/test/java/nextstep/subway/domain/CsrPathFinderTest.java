@@ -0,0 +1,54 @@
+package nextstep.subway.domain;
+
+import nextstep.subway.utils.GridNetwork;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@DisplayName("CSR 최단 경로 탐색")
+class CsrPathFinderTest {
+
+    private static final int SIZE = 20;
+    private static final int WARM_UP = 200;
+    private static final int ITERATIONS = 1000;
+
+    @DisplayName("스레드별 배열을 재사용해 조회마다 메모리를 거의 할당하지 않는다")
+    @Test
+    void findPath_allocation() {
+        // given
+        ThreadMXBean platformThreadMXBean = ManagementFactory.getThreadMXBean();
+        assumeTrue(platformThreadMXBean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) platformThreadMXBean;
+        assumeTrue(threadMXBean.isThreadAllocatedMemorySupported() && threadMXBean.isThreadAllocatedMemoryEnabled());
+        GridNetwork network = GridNetwork.of(SIZE, SIZE, 2022L);
+        StationGraph graph = StationGraph.of(network.getLines());
+        int source = graph.indexOf(network.getStation(0, 0));
+        int target = graph.indexOf(network.getStation(SIZE - 1, SIZE - 1));
+        CsrPathFinder csr = CsrPathFinder.of(graph);
+        int[] pathBuffer = new int[graph.size()];
+        long threadId = Thread.currentThread().getId();
+        for (int i = 0; i < WARM_UP; i++) {
+            csr.findPath(source, target, pathBuffer);
+        }
+
+        // when
+        long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+        int length = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            length = csr.findPath(source, target, pathBuffer);
+        }
+        long bytesPerQuery = (threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore) / ITERATIONS;
+
+        // then
+        assertThat(length).isPositive();
+        assertThat(pathBuffer[0]).isEqualTo(source);
+        assertThat(pathBuffer[length - 1]).isEqualTo(target);
+        assertThat(bytesPerQuery).isLessThan(64);
+    }
+
+}
@@ -0,0 +1,78 @@
+package nextstep.subway.domain;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("노선별 갈아타지 않는 구간 색인")
+class DirectRideIndexTest {
+
+    private Station 교대역;
+    private Station 강남역;
+    private Station 양재역;
+    private Station 판교역;
+    private Line 신분당선;
+    private Line 이호선;
+
+    @BeforeEach
+    void setUp() {
+        교대역 = Station.of("교대역");
+        강남역 = Station.of("강남역");
+        양재역 = Station.of("양재역");
+        판교역 = Station.of("판교역");
+
+        신분당선 = Line.of("신분당선", "red", 강남역, 양재역, 10);
+        신분당선.addSection(양재역, 판교역, 20);
+        ReflectionTestUtils.setField(신분당선, "id", 1L);
+        이호선 = Line.of("이호선", "green", 교대역, 양재역, 50);
+        ReflectionTestUtils.setField(이호선, "id", 2L);
+    }
+
+    @DisplayName("두 역을 모두 지나는 노선의 구간을 짧은 순서대로 찾는다")
+    @Test
+    void findRides() {
+        // given
+        DirectRideIndex index = DirectRideIndex.builder()
+                .addSection(1L, 강남역, 양재역, 10)
+                .addSection(1L, 양재역, 판교역, 20)
+                .addSection(2L, 교대역, 양재역, 50)
+                .build();
+
+        // when
+        List<DirectRideIndex.Ride> rides = index.findRides(판교역, 강남역);
+
+        // then
+        assertThat(rides).hasSize(1);
+        assertThat(rides.get(0).getLineId()).isEqualTo(1L);
+        assertThat(rides.get(0).getStations()).containsExactly(판교역, 양재역, 강남역);
+        assertThat(rides.get(0).getDistance()).isEqualTo(30);
+        assertThat(index.findRides(교대역, 판교역)).isEmpty();
+    }
+
+    @DisplayName("구간이 바뀐 노선의 색인만 다시 만들고 기존 색인은 그대로 둔다")
+    @Test
+    void apply() {
+        // given
+        DirectRideIndex index = DirectRideIndex.builder()
+                .addSection(1L, 강남역, 양재역, 10)
+                .addSection(1L, 양재역, 판교역, 20)
+                .addSection(2L, 교대역, 양재역, 50)
+                .build();
+
+        // when
+        DirectRideIndex applied = index.apply(신분당선.addSection(교대역, 강남역, 5));
+
+        // then
+        assertThat(index.findRides(교대역, 양재역)).extracting(DirectRideIndex.Ride::getLineId)
+                .containsExactly(2L);
+        assertThat(applied.findRides(교대역, 양재역)).extracting(DirectRideIndex.Ride::getLineId)
+                .containsExactly(1L, 2L);
+        assertThat(applied.findRides(교대역, 양재역).get(0).getDistance()).isEqualTo(15);
+    }
+
+}
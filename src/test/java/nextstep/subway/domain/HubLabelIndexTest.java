@@ -0,0 +1,119 @@
+package nextstep.subway.domain;
+
+import nextstep.subway.exception.path.NotFoundPathException;
+import nextstep.subway.exception.path.SameStationException;
+import nextstep.subway.utils.GridNetwork;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("허브 라벨 거리 색인")
+class HubLabelIndexTest {
+
+    private Station 강남역;
+    private Station 양재역;
+    private Station 판교역;
+    private Station 교대역;
+    private Station 남부터미널역;
+    private Line 신분당선;
+    private Line 이호선;
+    private Line 삼호선;
+
+    /**
+     * 교대역    --- *2호선* (10) ---   강남역
+     * |                               |
+     * *3호선* (2)                   *신분당선* (10)
+     * |                               |
+     * 남부터미널역  --- *3호선* (3) ---   양재역 --- *신분당선* (10) --- 판교역
+     */
+    @BeforeEach
+    void setUp() {
+        강남역 = Station.of("강남역");
+        양재역 = Station.of("양재역");
+        판교역 = Station.of("판교역");
+        교대역 = Station.of("교대역");
+        남부터미널역 = Station.of("남부터미널역");
+
+        신분당선 = Line.of("신분당선", "red", 강남역, 양재역, 10);
+        신분당선.addSection(양재역, 판교역, 10);
+        이호선 = Line.of("2호선", "green", 교대역, 강남역, 10);
+        삼호선 = Line.of("3호선", "orange", 교대역, 남부터미널역, 2);
+        삼호선.addSection(남부터미널역, 양재역, 3);
+    }
+
+    @DisplayName("두 역의 라벨에 함께 있는 허브로 최단 거리를 구한다")
+    @Test
+    void findDistance() {
+        // given
+        HubLabelIndex hubLabelIndex = HubLabelIndex.of(StationGraph.of(Arrays.asList(신분당선, 이호선, 삼호선)));
+
+        // when
+        int distance = hubLabelIndex.findDistance(교대역, 판교역);
+
+        // then
+        assertThat(distance).isEqualTo(15);
+        assertThat(hubLabelIndex.findDistance(판교역, 교대역)).isEqualTo(15);
+    }
+
+    @DisplayName("모든 역 쌍의 거리가 다익스트라 탐색 결과와 같다")
+    @Test
+    void findDistance_sameAsDijkstra() {
+        // given
+        StationGraph graph = StationGraph.of(GridNetwork.of(15, 15, 17).getLines());
+        HubLabelIndex hubLabelIndex = HubLabelIndex.of(graph);
+
+        // then
+        for (int source = 0; source < graph.size(); source++) {
+            ShortestPathTree tree = ShortestPathTree.of(graph, source);
+            for (int target = 0; target < graph.size(); target++) {
+                assertThat(hubLabelIndex.distance(source, target)).isEqualTo(tree.distance(target));
+            }
+        }
+    }
+
+    @DisplayName("연결되지 않은 역이나 노선에 없는 역까지의 거리는 구할 수 없다")
+    @Test
+    void findDistance_separated() {
+        // given
+        Station 정자역 = Station.of("정자역");
+        Station 미금역 = Station.of("미금역");
+        Line 분당선 = Line.of("분당선", "yellow", 정자역, 미금역, 10);
+        HubLabelIndex hubLabelIndex = HubLabelIndex.of(StationGraph.of(Arrays.asList(신분당선, 분당선)));
+
+        // then
+        assertThatThrownBy(() -> hubLabelIndex.findDistance(강남역, 미금역))
+                .isInstanceOf(NotFoundPathException.class);
+        assertThatThrownBy(() -> hubLabelIndex.findDistance(강남역, 교대역))
+                .isInstanceOf(NotFoundPathException.class);
+    }
+
+    @DisplayName("출발역과 도착역이 같으면 거리를 구할 수 없다")
+    @Test
+    void findDistance_sameStation() {
+        // given
+        HubLabelIndex hubLabelIndex = HubLabelIndex.of(StationGraph.of(Arrays.asList(신분당선)));
+
+        // then
+        assertThatThrownBy(() -> hubLabelIndex.findDistance(강남역, 강남역))
+                .isInstanceOf(SameStationException.class);
+    }
+
+    @DisplayName("라벨 크기와 생성 시간을 알 수 있다")
+    @Test
+    void getStatistics() {
+        // given
+        HubLabelIndex hubLabelIndex = HubLabelIndex.of(StationGraph.of(GridNetwork.of(10, 10, 3).getLines()));
+
+        // then
+        assertThat(hubLabelIndex.getStatistics())
+                .containsEntry("stations", 100L)
+                .containsKeys("labelEntries", "averageLabelSize", "maxLabelSize", "buildMillis");
+        assertThat(hubLabelIndex.getStatistics().get("maxLabelSize")).isLessThan(100L);
+    }
+
+}
@@ -0,0 +1,85 @@
+package nextstep.subway.domain;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("K개의 최단 경로 탐색")
+class KShortestPathFinderTest {
+
+    private Station 교대역;
+    private Station 남부터미널역;
+    private Station 강남역;
+    private Station 양재역;
+    private Station 판교역;
+    private StationGraph graph;
+
+    @BeforeEach
+    void setUp() {
+        교대역 = Station.of("교대역");
+        남부터미널역 = Station.of("남부터미널역");
+        강남역 = Station.of("강남역");
+        양재역 = Station.of("양재역");
+        판교역 = Station.of("판교역");
+
+        Line 신분당선 = Line.of("신분당선", "red", 강남역, 양재역, 10);
+        신분당선.addSection(양재역, 판교역, 10);
+        Line 이호선 = Line.of("이호선", "green", 교대역, 강남역, 10);
+        Line 삼호선 = Line.of("삼호선", "orange", 교대역, 남부터미널역, 5);
+        삼호선.addSection(남부터미널역, 양재역, 20);
+        Line 분당선 = Line.of("분당선", "yellow", 남부터미널역, 판교역, 40);
+
+        graph = StationGraph.of(Arrays.asList(신분당선, 이호선, 삼호선, 분당선));
+    }
+
+    @DisplayName("루프 없는 경로를 짧은 순서대로 찾는다")
+    @Test
+    void findPaths() {
+        // given
+        KShortestPathFinder pathFinder = KShortestPathFinder.of(graph);
+
+        // when
+        List<List<Station>> paths = pathFinder.findPaths(교대역, 판교역, 3);
+
+        // then
+        assertThat(paths).containsExactly(
+                Arrays.asList(교대역, 강남역, 양재역, 판교역),
+                Arrays.asList(교대역, 남부터미널역, 양재역, 판교역),
+                Arrays.asList(교대역, 남부터미널역, 판교역)
+        );
+    }
+
+    @DisplayName("경로가 요청한 수보다 적으면 존재하는 경로만 찾는다")
+    @Test
+    void findPaths_lessThanCount() {
+        // given
+        KShortestPathFinder pathFinder = KShortestPathFinder.of(graph);
+
+        // when
+        List<List<Station>> paths = pathFinder.findPaths(교대역, 판교역, 10);
+
+        // then
+        assertThat(paths).hasSize(4);
+        assertThat(paths).doesNotHaveDuplicates();
+    }
+
+    @DisplayName("직전 경로의 분기 지점마다 한 번씩 우회 경로를 탐색한다")
+    @Test
+    void search_spurSearchCount() {
+        // given
+        KShortestPathFinder pathFinder = KShortestPathFinder.of(graph);
+
+        // when
+        KShortestPathFinder.Search search = pathFinder.search(graph.indexOf(교대역), graph.indexOf(판교역), 2);
+
+        // then
+        assertThat(search.getRoutes()).hasSize(2);
+        assertThat(search.getSpurSearchCount()).isEqualTo(3);
+    }
+
+}
@@ -0,0 +1,70 @@
+package nextstep.subway.domain;
+
+import nextstep.subway.exception.network.InvalidLineChainException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LineImportTest {
+
+    @DisplayName("순서가 섞인 구간들을 상행 종점부터 차례로 잇는다")
+    @Test
+    void orderSections() {
+        // given
+        LineImport 신분당선 = LineImport.of("신분당선", "red");
+        신분당선.addSection("정자역", "미금역", 10);
+        신분당선.addSection("강남역", "판교역", 5);
+        신분당선.addSection("판교역", "정자역", 7);
+
+        // when
+        신분당선.orderSections();
+
+        // then
+        List<String> upStations = new ArrayList<>();
+        List<Integer> distances = new ArrayList<>();
+        for (int i = 0; i < 신분당선.size(); i++) {
+            upStations.add(신분당선.getUpStation(i));
+            distances.add(신분당선.getDistance(i));
+        }
+        assertThat(upStations).containsExactly("강남역", "판교역", "정자역");
+        assertThat(distances).containsExactly(5, 7, 10);
+        assertThat(신분당선.getDownStation(신분당선.size() - 1)).isEqualTo("미금역");
+    }
+
+    @DisplayName("한 역에서 두 구간이 갈라지면 이을 수 없다")
+    @Test
+    void orderSections_fail_branch() {
+        // given
+        LineImport 신분당선 = LineImport.of("신분당선", "red");
+        신분당선.addSection("강남역", "판교역", 5);
+        신분당선.addSection("강남역", "정자역", 7);
+
+        // when & then
+        assertThatThrownBy(신분당선::orderSections)
+                .isInstanceOf(InvalidLineChainException.class);
+    }
+
+    @DisplayName("구간들이 끊어져 있거나 순환하면 이을 수 없다")
+    @Test
+    void orderSections_fail_disconnected() {
+        // given
+        LineImport 끊어진_노선 = LineImport.of("끊어진 노선", "red");
+        끊어진_노선.addSection("강남역", "판교역", 5);
+        끊어진_노선.addSection("정자역", "미금역", 7);
+        LineImport 순환_노선 = LineImport.of("순환 노선", "green");
+        순환_노선.addSection("강남역", "판교역", 5);
+        순환_노선.addSection("판교역", "강남역", 7);
+
+        // when & then
+        assertThatThrownBy(끊어진_노선::orderSections)
+                .isInstanceOf(InvalidLineChainException.class);
+        assertThatThrownBy(순환_노선::orderSections)
+                .isInstanceOf(InvalidLineChainException.class);
+    }
+
+}
@@ -69,4 +69,4 @@ class LineTest {
         assertThat(신분당선.getStations()).contains(강남역, 판교역);
     }
 
-}
\ No newline at end of file
+}
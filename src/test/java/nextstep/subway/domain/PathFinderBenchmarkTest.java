@@ -0,0 +1,171 @@
+package nextstep.subway.domain;
+
+import nextstep.subway.utils.GridNetwork;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.function.IntSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 반복 측정이 오래 걸리므로 기본 test 작업에서는 빼고 ./gradlew benchmark 로만 돌린다.
+ * 실행 시간은 장비마다 다르므로 로그로만 남기고, 검증은 찾은 거리와 확정한 역 수로만 한다.
+ */
+@Tag("benchmark")
+@DisplayName("최단 경로 탐색 벤치마크")
+class PathFinderBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PathFinderBenchmarkTest.class);
+    private static final int SIZE = 60;
+    private static final int WARM_UP = 200;
+    private static final int ITERATIONS = 1000;
+
+    private StationGraph graph;
+    private int source;
+    private int target;
+
+    @BeforeEach
+    void setUp() {
+        GridNetwork network = GridNetwork.of(SIZE, SIZE, 2022L);
+        graph = StationGraph.of(network.getLines());
+        source = graph.indexOf(network.getStation(0, 0));
+        target = graph.indexOf(network.getStation(SIZE - 1, SIZE - 1));
+    }
+
+    @DisplayName("양방향 다익스트라는 단방향보다 적은 역을 확정한다")
+    @Test
+    void bidirectional() {
+        // given
+        BidirectionalPathFinder bidirectional = BidirectionalPathFinder.of(graph);
+
+        // when
+        ShortestPathTree unidirectionalSearch = ShortestPathTree.of(graph, source, target);
+        BidirectionalPathFinder.Search bidirectionalSearch = bidirectional.search(source, target);
+        long unidirectionalNanos = measure(() -> ShortestPathTree.of(graph, source, target).getSettledCount());
+        long bidirectionalNanos = measure(() -> bidirectional.search(source, target).getSettledCount());
+
+        // then
+        print("unidirectional", unidirectionalSearch.getSettledCount(), unidirectionalNanos);
+        print("bidirectional", bidirectionalSearch.getSettledCount(), bidirectionalNanos);
+        assertThat(bidirectionalSearch.getDistance()).isEqualTo(unidirectionalSearch.distance(target));
+        assertThat(bidirectionalSearch.getSettledCount()).isLessThan(unidirectionalSearch.getSettledCount());
+    }
+
+    @DisplayName("랜드마크 A* 탐색은 단방향 다익스트라보다 훨씬 적은 역을 확정한다")
+    @Test
+    void alt() {
+        // given
+        AltPathFinder alt = AltPathFinder.of(graph);
+
+        // when
+        ShortestPathTree unidirectionalSearch = ShortestPathTree.of(graph, source, target);
+        AltPathFinder.Search altSearch = alt.search(source, target);
+        long unidirectionalNanos = measure(() -> ShortestPathTree.of(graph, source, target).getSettledCount());
+        long altNanos = measure(() -> alt.search(source, target).getSettledCount());
+
+        // then
+        print("unidirectional", unidirectionalSearch.getSettledCount(), unidirectionalNanos);
+        print("alt", altSearch.getSettledCount(), altNanos);
+        assertThat(altSearch.getDistance()).isEqualTo(unidirectionalSearch.distance(target));
+        assertThat(altSearch.getSettledCount() * 4).isLessThan(unidirectionalSearch.getSettledCount());
+    }
+
+    @DisplayName("축약 계층 탐색은 전처리 후 단방향 다익스트라보다 훨씬 적은 역을 확정한다")
+    @Test
+    void contractionHierarchy() {
+        // given
+        ContractionHierarchyPathFinder contractionHierarchy = ContractionHierarchyPathFinder.of(graph);
+
+        // when
+        ShortestPathTree unidirectionalSearch = ShortestPathTree.of(graph, source, target);
+        ContractionHierarchyPathFinder.Search chSearch = contractionHierarchy.search(source, target);
+        long unidirectionalNanos = measure(() -> ShortestPathTree.of(graph, source, target).getSettledCount());
+        long chNanos = measure(() -> contractionHierarchy.search(source, target).getSettledCount());
+
+        // then
+        print("unidirectional", unidirectionalSearch.getSettledCount(), unidirectionalNanos);
+        print("ch", chSearch.getSettledCount(), chNanos);
+        log.info("ch preprocess={}ms shortcuts={} speedup={}x", contractionHierarchy.getPreprocessMillis(),
+                contractionHierarchy.getShortcutCount(), unidirectionalNanos / Math.max(chNanos, 1));
+        assertThat(chSearch.getDistance()).isEqualTo(unidirectionalSearch.distance(target));
+        assertThat(chSearch.getSettledCount() * 4).isLessThan(unidirectionalSearch.getSettledCount());
+    }
+
+    @DisplayName("K개의 최단 경로 탐색은 도착역 트리를 공유해 독립적인 탐색 K번보다 적은 역을 확정한다")
+    @Test
+    void kShortestPaths() {
+        // given
+        KShortestPathFinder kShortest = KShortestPathFinder.of(graph);
+        int count = 3;
+
+        // when
+        ShortestPathTree singleSearch = ShortestPathTree.of(graph, source, target);
+        KShortestPathFinder.Search kShortestSearch = kShortest.search(source, target, count);
+        long singleNanos = measure(() -> ShortestPathTree.of(graph, source, target).getSettledCount());
+        long kShortestNanos = measure(() -> kShortest.search(source, target, count).getSettledCount());
+
+        // then
+        print("single", singleSearch.getSettledCount(), singleNanos);
+        print("k-shortest(3)", kShortestSearch.getSettledCount(), kShortestNanos);
+        log.info("k-shortest spur searches={}", kShortestSearch.getSpurSearchCount());
+        assertThat(kShortestSearch.getRoutes()).hasSize(count);
+        assertThat(kShortestSearch.getRoutes().get(0).getDistance()).isEqualTo(singleSearch.distance(target));
+        assertThat(kShortestSearch.getSettledCount()).isLessThan(singleSearch.getSettledCount() * count);
+    }
+
+    @DisplayName("CSR 탐색의 조회당 할당량을 기록한다")
+    @Test
+    void csrAllocation() {
+        // given
+        ThreadMXBean platformThreadMXBean = ManagementFactory.getThreadMXBean();
+        assumeTrue(platformThreadMXBean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) platformThreadMXBean;
+        assumeTrue(threadMXBean.isThreadAllocatedMemorySupported() && threadMXBean.isThreadAllocatedMemoryEnabled());
+        CsrPathFinder csr = CsrPathFinder.of(graph);
+        int[] pathBuffer = new int[graph.size()];
+        long threadId = Thread.currentThread().getId();
+
+        // when
+        measure(() -> csr.findPath(source, target, pathBuffer));
+        long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+        int blackhole = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            blackhole += csr.findPath(source, target, pathBuffer);
+        }
+        long bytesPerQuery = (threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore) / ITERATIONS;
+
+        // then
+        log.info("csr allocated={} bytes/query", bytesPerQuery);
+        assertThat(blackhole).isPositive();
+        assertThat(pathBuffer[0]).isEqualTo(source);
+    }
+
+    private long measure(IntSupplier query) {
+        int blackhole = 0;
+        for (int i = 0; i < WARM_UP; i++) {
+            blackhole += query.getAsInt();
+        }
+
+        long startTime = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            blackhole += query.getAsInt();
+        }
+        long elapsed = (System.nanoTime() - startTime) / ITERATIONS;
+
+        assertThat(blackhole).isPositive();
+        return elapsed;
+    }
+
+    private void print(String name, int settledCount, long nanosPerQuery) {
+        log.info("{} settled={} {} ns/query", name, settledCount, nanosPerQuery);
+    }
+
+}
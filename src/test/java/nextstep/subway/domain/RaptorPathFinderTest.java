@@ -0,0 +1,112 @@
+package nextstep.subway.domain;
+
+import nextstep.subway.exception.path.NotFoundPathException;
+import nextstep.subway.exception.path.SameStationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalTime;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("시간표 기준 가장 빠른 도착 경로 탐색")
+class RaptorPathFinderTest {
+
+    private static final int SECONDS_PER_DISTANCE = 60;
+
+    private Station 교대역;
+    private Station 남부터미널역;
+    private Station 강남역;
+    private Station 양재역;
+    private Line 신분당선;
+    private Line 이호선;
+    private Line 삼호선;
+
+    /**
+     * 교대역 --- *2호선*(10분, 10분 간격) --- 강남역
+     * |                                      |
+     * *3호선*(20분)                       *신분당선*(10분, 30분 간격)
+     * |                                      |
+     * 남부터미널역 --- *3호선*(20분) --- 양재역
+     * 3호선은 양쪽 종점에서 06:05에 한 번만 출발한다.
+     */
+    @BeforeEach
+    void setUp() {
+        교대역 = Station.of("교대역");
+        남부터미널역 = Station.of("남부터미널역");
+        강남역 = Station.of("강남역");
+        양재역 = Station.of("양재역");
+
+        신분당선 = Line.of("신분당선", "red", 강남역, 양재역, 10);
+        신분당선.updateTimetable(Timetable.ofHeadway(LocalTime.of(6, 0), LocalTime.of(23, 0), 30, SECONDS_PER_DISTANCE));
+        이호선 = Line.of("이호선", "green", 교대역, 강남역, 10);
+        이호선.updateTimetable(Timetable.ofHeadway(LocalTime.of(6, 0), LocalTime.of(23, 0), 10, SECONDS_PER_DISTANCE));
+        삼호선 = Line.of("삼호선", "orange", 교대역, 남부터미널역, 20);
+        삼호선.addSection(남부터미널역, 양재역, 20);
+        삼호선.updateTimetable(Timetable.ofDepartures(Arrays.asList(LocalTime.of(6, 5)), SECONDS_PER_DISTANCE));
+    }
+
+    @DisplayName("환승하더라도 가장 빨리 도착하는 경로를 노선별 승차 구간과 시각으로 찾는다")
+    @Test
+    void findJourney_transfer() {
+        // given
+        RaptorPathFinder pathFinder = RaptorPathFinder.of(Arrays.asList(신분당선, 이호선, 삼호선));
+
+        // when
+        Journey journey = pathFinder.findJourney(교대역, 양재역, LocalTime.of(6, 0));
+
+        // then
+        assertThat(journey.getArrivalTime()).isEqualTo(LocalTime.of(6, 40));
+        assertThat(journey.getTransferCount()).isEqualTo(1);
+        assertThat(journey.getStations()).containsExactly(교대역, 강남역, 양재역);
+        assertThat(journey.getLegs())
+                .extracting(Journey.Leg::getLine, Journey.Leg::getDepartureTime, Journey.Leg::getArrivalTime)
+                .containsExactly(
+                        tuple(이호선, LocalTime.of(6, 0), LocalTime.of(6, 10)),
+                        tuple(신분당선, LocalTime.of(6, 30), LocalTime.of(6, 40))
+                );
+    }
+
+    @DisplayName("환승 열차를 오래 기다려야 하면 갈아타지 않는 경로가 더 빨리 도착한다")
+    @Test
+    void findJourney_direct() {
+        // given
+        신분당선.updateTimetable(Timetable.ofHeadway(LocalTime.of(6, 50), LocalTime.of(23, 0), 30, SECONDS_PER_DISTANCE));
+        RaptorPathFinder pathFinder = RaptorPathFinder.of(Arrays.asList(신분당선, 이호선, 삼호선));
+
+        // when
+        Journey journey = pathFinder.findJourney(교대역, 양재역, LocalTime.of(6, 0));
+
+        // then
+        assertThat(journey.getArrivalTime()).isEqualTo(LocalTime.of(6, 45));
+        assertThat(journey.getTransferCount()).isZero();
+        assertThat(journey.getStations()).containsExactly(교대역, 남부터미널역, 양재역);
+    }
+
+    @DisplayName("출발 시각 이후에 탈 수 있는 열차가 없으면 예외 처리")
+    @Test
+    void findJourney_noTrip() {
+        // given
+        RaptorPathFinder pathFinder = RaptorPathFinder.of(Arrays.asList(신분당선, 이호선, 삼호선));
+
+        // then
+        assertThatThrownBy(() -> pathFinder.findJourney(교대역, 남부터미널역, LocalTime.of(7, 0)))
+                .isInstanceOf(NotFoundPathException.class);
+    }
+
+    @DisplayName("출발역과 도착역은 같을 수 없다")
+    @Test
+    void validatePath() {
+        // given
+        RaptorPathFinder pathFinder = RaptorPathFinder.of(Arrays.asList(신분당선, 이호선, 삼호선));
+
+        // then
+        assertThatThrownBy(() -> pathFinder.findJourney(교대역, 교대역, LocalTime.of(6, 0)))
+                .isInstanceOf(SameStationException.class);
+    }
+
+}
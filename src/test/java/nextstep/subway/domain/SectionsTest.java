@@ -8,8 +8,12 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.Collections;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 
 @DisplayName("Sections의 요구사항 테스트")
 class SectionsTest {
@@ -101,6 +105,38 @@ class SectionsTest {
         assertThat(sections.getAllStations()).containsExactly(강남역, 정자역, 미금역);
     }
 
+    @DisplayName("중간 역의 하행 방향에 구간을 추가하면 그 역에서 출발하는 구간을 나눈다")
+    @Test
+    void addDownSection_middle_fromMiddleStation() {
+        // given
+        sections.addSection(Section.of(신분당선, 정자역, 미금역, 10));
+
+        // when
+        sections.addSection(Section.of(신분당선, 정자역, 판교역, 4));
+
+        // then
+        assertThat(sections.getAllStations()).containsExactly(강남역, 정자역, 판교역, 미금역);
+        assertThat(sections.getSections())
+                .extracting(Section::getDistance)
+                .containsExactly(10, 4, 6);
+    }
+
+    @DisplayName("중간 역을 삭제한 뒤에도 남은 역을 기준으로 구간을 추가할 수 있다")
+    @Test
+    void addSection_afterDeleteStation() {
+        // given
+        sections.addSection(Section.of(신분당선, 정자역, 미금역, 10));
+        sections.deleteStation(정자역);
+
+        // when
+        sections.addSection(Section.of(신분당선, 판교역, 미금역, 5));
+
+        // then
+        assertThat(sections.getAllStations()).containsExactly(강남역, 판교역, 미금역);
+        assertThatThrownBy(() -> sections.addSection(Section.of(신분당선, 강남역, 미금역, 3)))
+                .isInstanceOf(AlreadyRegisteredStationException.class);
+    }
+
     @DisplayName("기존 구간에 역을 추가한다 - 복합 추가")
     @Test
     void addDownSection_all() {
@@ -201,4 +237,109 @@ class SectionsTest {
                 .isInstanceOf(MinimumSectionException.class);
     }
 
-}
\ No newline at end of file
+    @DisplayName("중간에 구간을 추가하면 나뉜 기존 구간과 새로 생긴 두 구간을 변경분으로 돌려준다")
+    @Test
+    void addSection_changes() {
+        // given
+        Section section = Section.of(신분당선, 판교역, 정자역, 4);
+
+        // when
+        SectionChanges changes = sections.addSection(section);
+
+        // then
+        assertThat(changes.getRemovedSections())
+                .extracting(Section::getUpStation, Section::getDownStation, Section::getDistance)
+                .containsExactly(tuple(강남역, 정자역, 10));
+        assertThat(changes.getAddedSections())
+                .extracting(Section::getUpStation, Section::getDownStation, Section::getDistance)
+                .containsExactly(tuple(강남역, 판교역, 6), tuple(판교역, 정자역, 4));
+    }
+
+    @DisplayName("중간 역을 삭제하면 합쳐진 두 구간과 새로 생긴 구간을 변경분으로 돌려준다")
+    @Test
+    void deleteStation_changes() {
+        // given
+        Section 정자역_미금역 = Section.of(신분당선, 정자역, 미금역, 5);
+        sections.addSection(정자역_미금역);
+
+        // when
+        SectionChanges changes = sections.deleteStation(정자역);
+
+        // then
+        assertThat(changes.getRemovedSections())
+                .extracting(Section::getUpStation, Section::getDownStation, Section::getDistance)
+                .containsExactly(tuple(강남역, 정자역, 10), tuple(정자역, 미금역, 5));
+        assertThat(changes.getAddedSections())
+                .extracting(Section::getUpStation, Section::getDownStation, Section::getDistance)
+                .containsExactly(tuple(강남역, 미금역, 15));
+    }
+
+    @DisplayName("중간에 구간을 추가하면 나뉘는 기존 구간을 새로 만들지 않고 고친다")
+    @Test
+    void addSection_middle_keepsRegisteredSection() {
+        // when
+        sections.addSection(Section.of(신분당선, 판교역, 정자역, 4));
+
+        // then
+        assertThat(sections.getSections().get(0)).isSameAs(강남역_정자역);
+        assertThat(강남역_정자역.getDownStation()).isEqualTo(판교역);
+        assertThat(강남역_정자역.getDistance()).isEqualTo(6);
+    }
+
+    @DisplayName("하행 종점부터 이어지는 구간들에 뒤로 갈수록 큰 순서 값을 매긴다")
+    @Test
+    void prepareAppend() {
+        // given
+        Section 정자역_미금역 = Section.of(신분당선, 정자역, 미금역, 5);
+        Section 미금역_판교역 = Section.of(신분당선, 미금역, 판교역, 5);
+
+        // when
+        sections.prepareAppend(Arrays.asList(정자역_미금역, 미금역_판교역));
+
+        // then
+        assertThat(정자역_미금역.getPosition()).isGreaterThan(강남역_정자역.getPosition());
+        assertThat(미금역_판교역.getPosition()).isGreaterThan(정자역_미금역.getPosition());
+        assertThat(sections.getAllStations()).containsExactly(강남역, 정자역);
+    }
+
+    @DisplayName("이어 붙일 구간을 준비하면 이전 구간 목록으로 만든 역 색인을 버린다")
+    @Test
+    void prepareAppend_resetIndexes() {
+        // given
+        Section 정자역_미금역 = Section.of(신분당선, 정자역, 미금역, 5);
+        assertThat(sections.getAllStations()).containsExactly(강남역, 정자역);
+
+        // when
+        sections.prepareAppend(Collections.singletonList(정자역_미금역));
+        sections.getSections().add(정자역_미금역);
+        sections.addSection(Section.of(신분당선, 미금역, 판교역, 5));
+
+        // then
+        assertThat(sections.getAllStations()).containsExactly(강남역, 정자역, 미금역, 판교역);
+    }
+
+    @DisplayName("이어 붙일 구간들이 하행 종점부터 끊기지 않고 이어지지 않으면 실패")
+    @Test
+    void prepareAppend_fail_notConnected() {
+        // given
+        Section 정자역_미금역 = Section.of(신분당선, 정자역, 미금역, 5);
+        Section 판교역_양재역 = Section.of(신분당선, 판교역, 양재역, 5);
+
+        // then
+        assertThatThrownBy(() -> sections.prepareAppend(Arrays.asList(정자역_미금역, 판교역_양재역)))
+                .isInstanceOf(NotFoundConnectStationException.class);
+    }
+
+    @DisplayName("이어 붙일 구간들이 이미 지난 역으로 돌아가면 실패")
+    @Test
+    void prepareAppend_fail_alreadyRegistered() {
+        // given
+        Section 정자역_미금역 = Section.of(신분당선, 정자역, 미금역, 5);
+        Section 미금역_강남역 = Section.of(신분당선, 미금역, 강남역, 5);
+
+        // then
+        assertThatThrownBy(() -> sections.prepareAppend(Arrays.asList(정자역_미금역, 미금역_강남역)))
+                .isInstanceOf(AlreadyRegisteredStationException.class);
+    }
+
+}
@@ -1,16 +1,23 @@
 package nextstep.subway.domain;
 
+import nextstep.subway.exception.path.InvalidMaxDistanceException;
+import nextstep.subway.exception.path.InvalidPathCountException;
 import nextstep.subway.exception.path.NotFoundPathException;
 import nextstep.subway.exception.path.SameStationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
 
 @DisplayName("지하철 최단 경로 탐색")
 class ShortestPathCheckerTest {
@@ -48,10 +55,11 @@ class ShortestPathCheckerTest {
     }
 
     @DisplayName("노선이 1개 일 때의 최단 경로")
-    @Test
-    void findShortestPath_1Line() {
+    @EnumSource(PathEngine.class)
+    @ParameterizedTest
+    void findShortestPath_1Line(PathEngine engine) {
         // given
-        ShortestPathChecker checker = ShortestPathChecker.of(Arrays.asList(신분당선));
+        ShortestPathChecker checker = ShortestPathChecker.of(Arrays.asList(신분당선), engine);
 
         // when
         List<Station> path = checker.findShortestPath(미금역, 판교역);
@@ -61,10 +69,11 @@ class ShortestPathCheckerTest {
     }
 
     @DisplayName("노선이 2개 일 때의 최단 경로")
-    @Test
-    void findShortestPath_2Line() {
+    @EnumSource(PathEngine.class)
+    @ParameterizedTest
+    void findShortestPath_2Line(PathEngine engine) {
         // given
-        ShortestPathChecker checker = ShortestPathChecker.of(Arrays.asList(신분당선, 이호선));
+        ShortestPathChecker checker = ShortestPathChecker.of(Arrays.asList(신분당선, 이호선), engine);
 
         // when
         List<Station> path = checker.findShortestPath(판교역, 교대역);
@@ -74,10 +83,11 @@ class ShortestPathCheckerTest {
     }
 
     @DisplayName("노선이 3개 일 때의 최단 경로")
-    @Test
-    void findShortestPath_3Line() {
+    @EnumSource(PathEngine.class)
+    @ParameterizedTest
+    void findShortestPath_3Line(PathEngine engine) {
         // given
-        ShortestPathChecker checker = ShortestPathChecker.of(Arrays.asList(신분당선, 이호선, 삼호선));
+        ShortestPathChecker checker = ShortestPathChecker.of(Arrays.asList(신분당선, 이호선, 삼호선), engine);
 
         // when
         List<Station> path = checker.findShortestPath(판교역, 교대역);
@@ -87,10 +97,11 @@ class ShortestPathCheckerTest {
     }
 
     @DisplayName("출발역과 도착역은 같을 수 없다")
-    @Test
-    void validatePath() {
+    @EnumSource(PathEngine.class)
+    @ParameterizedTest
+    void validatePath(PathEngine engine) {
         // given
-        ShortestPathChecker checker = ShortestPathChecker.of(Arrays.asList(신분당선, 이호선, 삼호선));
+        ShortestPathChecker checker = ShortestPathChecker.of(Arrays.asList(신분당선, 이호선, 삼호선), engine);
 
         // then
         assertThatThrownBy(() -> checker.findShortestPath(판교역, 판교역))
@@ -98,15 +109,99 @@ class ShortestPathCheckerTest {
     }
 
     @DisplayName("경로를 찾을 수 없는가 경우 예외 처리")
+    @EnumSource(PathEngine.class)
+    @ParameterizedTest
+    void validatePath_nonPath(PathEngine engine) {
+        // given
+        Line 노선 = Line.of("노선", "green", 교대역, 남부터미널역, 50);
+        ShortestPathChecker checker = ShortestPathChecker.of(Arrays.asList(신분당선, 노선), engine);
+
+        // then
+        assertThatThrownBy(() -> checker.findShortestPath(판교역, 교대역))
+                .isInstanceOf(NotFoundPathException.class);
+    }
+
+    @DisplayName("서로 다른 연결 요소에 있는 역 사이는 탐색하지 않고 예외 처리")
     @Test
-    void validatePath_nonPath() {
+    void validatePath_otherComponent() {
         // given
         Line 노선 = Line.of("노선", "green", 교대역, 남부터미널역, 50);
-        ShortestPathChecker checker = ShortestPathChecker.of(Arrays.asList(신분당선, 노선));
+        StationGraph graph = StationGraph.of(Arrays.asList(신분당선, 노선));
+        ShortestPathChecker checker = ShortestPathChecker.of(graph, (source, target) -> {
+            throw new AssertionError("탐색하면 안 됩니다.");
+        });
 
         // then
         assertThatThrownBy(() -> checker.findShortestPath(판교역, 교대역))
                 .isInstanceOf(NotFoundPathException.class);
     }
 
-}
\ No newline at end of file
+    @DisplayName("여러 경로를 짧은 순서대로 찾는다")
+    @Test
+    void findShortestPaths() {
+        // given
+        ShortestPathChecker checker = ShortestPathChecker.of(Arrays.asList(신분당선, 이호선, 삼호선));
+
+        // when
+        List<List<Station>> paths = checker.findShortestPaths(교대역, 양재역, 3);
+
+        // then
+        assertThat(paths).containsExactly(
+                Arrays.asList(교대역, 남부터미널역, 양재역),
+                Arrays.asList(교대역, 강남역, 양재역)
+        );
+    }
+
+    @DisplayName("조회할 경로 수가 범위를 벗어나면 예외 처리")
+    @ValueSource(ints = {0, ShortestPathChecker.MAX_PATH_COUNT + 1})
+    @ParameterizedTest
+    void findShortestPaths_invalidCount(int count) {
+        // given
+        ShortestPathChecker checker = ShortestPathChecker.of(Arrays.asList(신분당선, 이호선, 삼호선));
+
+        // then
+        assertThatThrownBy(() -> checker.findShortestPaths(교대역, 양재역, count))
+                .isInstanceOf(InvalidPathCountException.class);
+    }
+
+    @DisplayName("최대 거리 안에서 도달할 수 있는 역과 거리를 가까운 순서로 찾는다")
+    @Test
+    void findReachableStations() {
+        // given
+        ShortestPathChecker checker = ShortestPathChecker.of(Arrays.asList(신분당선, 이호선, 삼호선));
+
+        // when
+        Map<Station, Integer> stations = checker.findReachableStations(교대역, 60);
+
+        // then
+        assertThat(stations).containsExactly(
+                entry(교대역, 0),
+                entry(남부터미널역, 20),
+                entry(양재역, 40),
+                entry(강남역, 50)
+        );
+    }
+
+    @DisplayName("최대 거리가 음수이면 예외 처리")
+    @Test
+    void findReachableStations_negativeDistance() {
+        // given
+        ShortestPathChecker checker = ShortestPathChecker.of(Arrays.asList(신분당선, 이호선, 삼호선));
+
+        // then
+        assertThatThrownBy(() -> checker.findReachableStations(교대역, -1))
+                .isInstanceOf(InvalidMaxDistanceException.class);
+    }
+
+    @DisplayName("주어진 거리보다 짧은 경로가 있는지 확인한다")
+    @Test
+    void hasShorterPath() {
+        // given
+        ShortestPathChecker checker = ShortestPathChecker.of(Arrays.asList(신분당선, 이호선, 삼호선));
+
+        // then
+        assertThat(checker.hasShorterPath(강남역, 양재역, 100)).isTrue();
+        assertThat(checker.hasShorterPath(강남역, 양재역, 90)).isFalse();
+    }
+
+}
@@ -0,0 +1,107 @@
+package nextstep.subway.domain;
+
+import nextstep.subway.utils.SqlStatementCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("구간 행으로 만드는 지하철 그래프")
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "nextstep.subway.utils.SqlStatementCounter")
+@Transactional
+class StationGraphRepositoryTest {
+
+    @Autowired
+    private StationRepository stationRepository;
+    @Autowired
+    private LineRepository lineRepository;
+    @Autowired
+    private StationGraphRepository stationGraphRepository;
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Station 교대역;
+    private Station 강남역;
+    private Station 양재역;
+    private Station 판교역;
+
+    @BeforeEach
+    void setUp() {
+        교대역 = stationRepository.save(Station.of("교대역"));
+        강남역 = stationRepository.save(Station.of("강남역"));
+        양재역 = stationRepository.save(Station.of("양재역"));
+        판교역 = stationRepository.save(Station.of("판교역"));
+
+        Line 신분당선 = Line.of("신분당선", "red", 강남역, 판교역, 30);
+        신분당선.addSection(강남역, 양재역, 10);
+        lineRepository.save(신분당선);
+        lineRepository.save(Line.of("이호선", "green", 교대역, 강남역, 5));
+    }
+
+    @DisplayName("엔티티를 읽지 않고 노선 목록으로 만든 그래프와 같은 그래프를 만든다")
+    @Test
+    void load() {
+        // given
+        entityManager.flush();
+        entityManager.clear();
+        SqlStatementCounter.clear();
+
+        // when
+        StationGraph graph = stationGraphRepository.load().getGraph();
+
+        // then
+        assertThat(SqlStatementCounter.count("select")).isZero();
+        StationGraph expected = StationGraph.of(lineRepository.findAllWithSections());
+        assertThat(graph.size()).isEqualTo(expected.size());
+        assertThat(graph.edgeCount()).isEqualTo(expected.edgeCount());
+        for (int vertex = 0; vertex < expected.size(); vertex++) {
+            assertThat(graph.getStation(vertex)).isEqualTo(expected.getStation(vertex));
+            assertThat(graph.getStation(vertex).getCreatedDate()).isEqualTo(expected.getStation(vertex).getCreatedDate());
+            for (int edge = expected.firstEdge(vertex); edge < expected.endEdge(vertex); edge++) {
+                assertThat(graph.target(edge)).isEqualTo(expected.target(edge));
+                assertThat(graph.weight(edge)).isEqualTo(expected.weight(edge));
+            }
+        }
+        assertThat(graph.indexOf(양재역)).isEqualTo(1);
+    }
+
+    @DisplayName("같은 구간 행으로 노선별 갈아타지 않는 구간 색인을 만든다")
+    @Test
+    void load_directRides() {
+        // when
+        DirectRideIndex directRides = stationGraphRepository.load().getDirectRides();
+
+        // then
+        List<DirectRideIndex.Ride> rides = directRides.findRides(판교역, 강남역);
+        assertThat(directRides.lineCount()).isEqualTo(2);
+        assertThat(rides).hasSize(1);
+        assertThat(rides.get(0).getStations()).containsExactly(판교역, 양재역, 강남역);
+        assertThat(rides.get(0).getDistance()).isEqualTo(30);
+        assertThat(directRides.findRides(교대역, 판교역)).isEmpty();
+    }
+
+    @DisplayName("같은 트랜잭션에서 아직 쓰지 않은 구간 변경도 그래프에 반영한다")
+    @Test
+    void load_flushPendingChanges() {
+        // given
+        Line 신분당선 = lineRepository.findAllWithSections().get(0);
+        신분당선.deleteStation(양재역);
+
+        // when
+        StationGraph graph = stationGraphRepository.load().getGraph();
+
+        // then
+        assertThat(graph.indexOf(양재역)).isEqualTo(StationGraph.NOT_FOUND);
+        assertThat(graph.size()).isEqualTo(3);
+    }
+
+}
@@ -0,0 +1,119 @@
+package nextstep.subway.domain;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("정수 인덱스 기반 지하철 그래프")
+class StationGraphTest {
+
+    private Station 교대역;
+    private Station 강남역;
+    private Station 양재역;
+    private Station 판교역;
+    private Line 신분당선;
+    private Line 이호선;
+
+    @BeforeEach
+    void setUp() {
+        교대역 = Station.of("교대역");
+        강남역 = Station.of("강남역");
+        양재역 = Station.of("양재역");
+        판교역 = Station.of("판교역");
+
+        신분당선 = Line.of("신분당선", "red", 강남역, 양재역, 10);
+        신분당선.addSection(양재역, 판교역, 20);
+        이호선 = Line.of("이호선", "green", 교대역, 강남역, 5);
+    }
+
+    @DisplayName("노선의 역마다 하나의 인덱스를 부여한다")
+    @Test
+    void indexOf() {
+        // when
+        StationGraph graph = StationGraph.of(Arrays.asList(신분당선, 이호선));
+
+        // then
+        assertThat(graph.size()).isEqualTo(4);
+        assertThat(graph.getStation(graph.indexOf(교대역))).isEqualTo(교대역);
+        assertThat(graph.indexOf(Station.of("없는역"))).isEqualTo(StationGraph.NOT_FOUND);
+    }
+
+    @DisplayName("구간은 양방향 간선으로 저장된다")
+    @Test
+    void edges() {
+        // when
+        StationGraph graph = StationGraph.of(Arrays.asList(신분당선, 이호선));
+
+        // then
+        int 강남역Index = graph.indexOf(강남역);
+        assertThat(graph.edgeCount()).isEqualTo(3);
+        assertThat(graph.endEdge(강남역Index) - graph.firstEdge(강남역Index)).isEqualTo(2);
+        assertThat(graph.weight(graph.firstEdge(graph.indexOf(판교역)))).isEqualTo(20);
+        assertThat(graph.target(graph.firstEdge(graph.indexOf(판교역)))).isEqualTo(graph.indexOf(양재역));
+    }
+
+    @DisplayName("구간 변경분을 반영한 새 그래프를 만들고 기존 그래프는 그대로 둔다")
+    @Test
+    void apply() {
+        // given
+        StationGraph graph = StationGraph.of(Arrays.asList(신분당선, 이호선));
+        Station 신논현역 = Station.of("신논현역");
+
+        // when
+        SectionChanges changes = 신분당선.addSection(강남역, 신논현역, 4);
+        StationGraph applied = graph.apply(changes);
+
+        // then
+        int 신논현역Index = applied.indexOf(신논현역);
+        assertThat(graph.indexOf(신논현역)).isEqualTo(StationGraph.NOT_FOUND);
+        assertThat(graph.edgeCount()).isEqualTo(3);
+        assertThat(applied.size()).isEqualTo(5);
+        assertThat(applied.edgeCount()).isEqualTo(4);
+        assertThat(applied.endEdge(신논현역Index) - applied.firstEdge(신논현역Index)).isEqualTo(2);
+        assertThat(applied.indexOf(교대역)).isEqualTo(graph.indexOf(교대역));
+    }
+
+    @DisplayName("마지막 구간이 빠진 역은 새 그래프에서 뺀다")
+    @Test
+    void apply_removeIsolatedStation() {
+        // given
+        StationGraph graph = StationGraph.of(Arrays.asList(신분당선, 이호선));
+
+        // when
+        SectionChanges changes = 신분당선.deleteStation(판교역);
+        StationGraph applied = graph.apply(changes);
+
+        // then
+        int 양재역Index = applied.indexOf(양재역);
+        assertThat(graph.indexOf(판교역)).isNotEqualTo(StationGraph.NOT_FOUND);
+        assertThat(applied.indexOf(판교역)).isEqualTo(StationGraph.NOT_FOUND);
+        assertThat(applied.size()).isEqualTo(3);
+        assertThat(applied.edgeCount()).isEqualTo(2);
+        assertThat(applied.getStation(applied.target(applied.firstEdge(양재역Index)))).isEqualTo(강남역);
+    }
+
+    @DisplayName("같은 그래프에서 따로 만든 새 그래프는 서로의 새 역을 알지 못한다")
+    @Test
+    void apply_independentIndexes() {
+        // given
+        StationGraph graph = StationGraph.of(Arrays.asList(신분당선, 이호선));
+        Station 신논현역 = Station.of("신논현역");
+        Station 정자역 = Station.of("정자역");
+
+        // when
+        StationGraph first = graph.apply(SectionChanges.added(Section.of(신분당선, 신논현역, 강남역, 4)));
+        StationGraph second = graph.apply(SectionChanges.added(Section.of(신분당선, 판교역, 정자역, 7)));
+
+        // then
+        assertThat(first.indexOf(신논현역)).isEqualTo(graph.size());
+        assertThat(first.indexOf(정자역)).isEqualTo(StationGraph.NOT_FOUND);
+        assertThat(second.indexOf(정자역)).isEqualTo(graph.size());
+        assertThat(second.indexOf(신논현역)).isEqualTo(StationGraph.NOT_FOUND);
+        assertThat(graph.indexOf(신논현역)).isEqualTo(StationGraph.NOT_FOUND);
+    }
+
+}
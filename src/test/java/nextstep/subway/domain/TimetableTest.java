@@ -0,0 +1,60 @@
+package nextstep.subway.domain;
+
+import nextstep.subway.exception.line.InvalidTimetableException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("노선 시간표")
+class TimetableTest {
+
+    @DisplayName("배차 간격으로 정한 시간표는 첫차부터 막차까지 간격마다 출발한다")
+    @Test
+    void getDepartureSeconds_headway() {
+        // given
+        Timetable timetable = Timetable.ofHeadway(LocalTime.of(6, 0), LocalTime.of(6, 25), 10, 60);
+
+        // when
+        int[] departures = timetable.getDepartureSeconds();
+
+        // then
+        assertThat(departures).containsExactly(
+                LocalTime.of(6, 0).toSecondOfDay(),
+                LocalTime.of(6, 10).toSecondOfDay(),
+                LocalTime.of(6, 20).toSecondOfDay()
+        );
+    }
+
+    @DisplayName("출발 시각을 직접 정한 시간표는 시각 순서대로 출발한다")
+    @Test
+    void getDepartureSeconds_departures() {
+        // given
+        Timetable timetable = Timetable.ofDepartures(Arrays.asList(LocalTime.of(7, 0), LocalTime.of(6, 30)), 60);
+
+        // when
+        int[] departures = timetable.getDepartureSeconds();
+
+        // then
+        assertThat(departures).containsExactly(
+                LocalTime.of(6, 30).toSecondOfDay(),
+                LocalTime.of(7, 0).toSecondOfDay()
+        );
+    }
+
+    @DisplayName("첫차가 막차보다 늦거나 출발 시각이 없으면 예외 처리")
+    @Test
+    void validate() {
+        // then
+        assertThatThrownBy(() -> Timetable.ofHeadway(LocalTime.of(7, 0), LocalTime.of(6, 0), 10, 60))
+                .isInstanceOf(InvalidTimetableException.class);
+        assertThatThrownBy(() -> Timetable.ofDepartures(Collections.emptyList(), 60))
+                .isInstanceOf(InvalidTimetableException.class);
+    }
+
+}
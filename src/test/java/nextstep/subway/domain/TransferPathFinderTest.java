@@ -0,0 +1,116 @@
+package nextstep.subway.domain;
+
+import nextstep.subway.exception.path.InvalidTransferPenaltyException;
+import nextstep.subway.exception.path.NotFoundPathException;
+import nextstep.subway.exception.path.SameStationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("환승을 고려한 경로 탐색")
+class TransferPathFinderTest {
+
+    private Station 교대역;
+    private Station 남부터미널역;
+    private Station 강남역;
+    private Station 양재역;
+    private Station 판교역;
+    private Line 신분당선;
+    private Line 이호선;
+    private Line 삼호선;
+    private TransferPathFinder pathFinder;
+
+    /**
+     * 교대역 --- *2호선*(10) --- 강남역
+     * |                        |
+     * *3호선*(20)           *신분당선*(10)
+     * |                        |
+     * 남부터미널역 --- *3호선*(20) --- 양재역 --- *신분당선*(10) --- 판교역
+     */
+    @BeforeEach
+    void setUp() {
+        교대역 = Station.of("교대역");
+        남부터미널역 = Station.of("남부터미널역");
+        강남역 = Station.of("강남역");
+        양재역 = Station.of("양재역");
+        판교역 = Station.of("판교역");
+
+        신분당선 = Line.of("신분당선", "red", 강남역, 양재역, 10);
+        신분당선.addSection(양재역, 판교역, 10);
+        이호선 = Line.of("이호선", "green", 교대역, 강남역, 10);
+        삼호선 = Line.of("삼호선", "orange", 교대역, 남부터미널역, 20);
+        삼호선.addSection(남부터미널역, 양재역, 20);
+
+        pathFinder = TransferPathFinder.of(Arrays.asList(신분당선, 이호선, 삼호선));
+    }
+
+    @DisplayName("환승 벌점이 없으면 환승하더라도 가장 짧은 경로를 노선별 구간으로 나눠 찾는다")
+    @Test
+    void findPath_noPenalty() {
+        // when
+        TransferPath path = pathFinder.findPath(교대역, 판교역, 0);
+
+        // then
+        assertThat(path.getStations()).containsExactly(교대역, 강남역, 양재역, 판교역);
+        assertThat(path.getDistance()).isEqualTo(30);
+        assertThat(path.getTransferCount()).isEqualTo(1);
+        assertThat(path.getLegs())
+                .extracting(TransferPath.Leg::getLine, TransferPath.Leg::getStations, TransferPath.Leg::getDistance)
+                .containsExactly(
+                        tuple(이호선, Arrays.asList(교대역, 강남역), 10),
+                        tuple(신분당선, Arrays.asList(강남역, 양재역, 판교역), 20)
+                );
+    }
+
+    @DisplayName("환승 벌점이 거리 차이보다 크면 환승이 적은 경로를 찾는다")
+    @Test
+    void findPath_penalty() {
+        // when
+        TransferPath path = pathFinder.findPath(교대역, 양재역, 30);
+
+        // then
+        assertThat(path.getStations()).containsExactly(교대역, 남부터미널역, 양재역);
+        assertThat(path.getDistance()).isEqualTo(40);
+        assertThat(path.getTransferCount()).isZero();
+        assertThat(path.getLegs())
+                .extracting(TransferPath.Leg::getLine)
+                .containsExactly(삼호선);
+    }
+
+    @DisplayName("환승 벌점이 음수이면 예외 처리")
+    @Test
+    void findPath_negativePenalty() {
+        // then
+        assertThatThrownBy(() -> pathFinder.findPath(교대역, 양재역, -1))
+                .isInstanceOf(InvalidTransferPenaltyException.class);
+    }
+
+    @DisplayName("출발역과 도착역은 같을 수 없다")
+    @Test
+    void validatePath() {
+        // then
+        assertThatThrownBy(() -> pathFinder.findPath(교대역, 교대역, 0))
+                .isInstanceOf(SameStationException.class);
+    }
+
+    @DisplayName("경로를 찾을 수 없는 경우 예외 처리")
+    @Test
+    void validatePath_nonPath() {
+        // given
+        Station 정자역 = Station.of("정자역");
+        Station 미금역 = Station.of("미금역");
+        TransferPathFinder pathFinder = TransferPathFinder.of(Arrays.asList(
+                신분당선, Line.of("분당선", "yellow", 정자역, 미금역, 10)));
+
+        // then
+        assertThatThrownBy(() -> pathFinder.findPath(판교역, 미금역, 0))
+                .isInstanceOf(NotFoundPathException.class);
+    }
+
+}
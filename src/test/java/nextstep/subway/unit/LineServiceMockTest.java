@@ -3,8 +3,10 @@ package nextstep.subway.unit;
 import nextstep.subway.applicaion.command.LineCommandService;
 import nextstep.subway.applicaion.dto.SectionRequest;
 import nextstep.subway.applicaion.query.LineQueryService;
+import nextstep.subway.applicaion.query.ShortestPathCheckerCache;
 import nextstep.subway.domain.Line;
 import nextstep.subway.domain.LineRepository;
+import nextstep.subway.domain.SectionBatchRepository;
 import nextstep.subway.domain.Station;
 import nextstep.subway.domain.StationRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -29,6 +31,10 @@ public class LineServiceMockTest {
     private StationRepository stationRepository;
     @Mock
     private LineQueryService lineQueryService;
+    @Mock
+    private ShortestPathCheckerCache shortestPathCheckerCache;
+    @Mock
+    private SectionBatchRepository sectionBatchRepository;
 
     private Station 강남역;
     private Station 판교역;
@@ -50,7 +56,7 @@ public class LineServiceMockTest {
     @Test
     void addSection() {
         // given
-        LineCommandService lineCommandService = new LineCommandService(lineRepository, lineQueryService, stationRepository);
+        LineCommandService lineCommandService = new LineCommandService(lineRepository, lineQueryService, stationRepository, shortestPathCheckerCache, sectionBatchRepository);
         when(lineQueryService.findLineById(anyLong())).thenReturn(신분당선);
 
         when(stationRepository.findById(판교역.getId())).thenReturn(Optional.ofNullable(판교역));
@@ -0,0 +1,77 @@
+package nextstep.subway.unit;
+
+import nextstep.subway.applicaion.command.NetworkImportService;
+import nextstep.subway.applicaion.query.ShortestPathCheckerCache;
+import nextstep.subway.domain.NetworkBatchRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class NetworkImportServiceMockTest {
+
+    @Mock
+    private NetworkBatchRepository networkBatchRepository;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @Mock
+    private ShortestPathCheckerCache shortestPathCheckerCache;
+
+    @Test
+    void importNetwork_deleteInsertedOnFailure() {
+        // given
+        NetworkImportService networkImportService = new NetworkImportService(networkBatchRepository,
+                transactionTemplate, shortestPathCheckerCache);
+        doAnswer(invocation -> {
+            Consumer<TransactionStatus> action = invocation.getArgument(0);
+            action.accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        Map<String, Long> stationIds = new HashMap<>();
+        stationIds.put("강남역", 1L);
+        stationIds.put("판교역", 2L);
+        when(networkBatchRepository.findStationIds()).thenReturn(Collections.emptyMap(), stationIds);
+        when(networkBatchRepository.findLineIds())
+                .thenReturn(Collections.emptyMap(), Collections.singletonMap("신분당선", 1L));
+        doThrow(new IllegalStateException("db error"))
+                .when(networkBatchRepository).insertSections(anyList(), anyMap(), anyMap());
+
+        // when
+        assertThatThrownBy(() -> networkImportService.importNetwork(
+                파일("name", "강남역", "판교역"),
+                파일("line,color,up_station,down_station,distance", "신분당선,red,강남역,판교역,5")))
+                .isInstanceOf(IllegalStateException.class);
+
+        // then
+        verify(networkBatchRepository).deleteLines(Collections.singletonList("신분당선"));
+        verify(networkBatchRepository).deleteUnusedStations(Arrays.asList("강남역", "판교역"));
+        verify(shortestPathCheckerCache).invalidate();
+    }
+
+    private InputStream 파일(String... rows) {
+        return new ByteArrayInputStream(String.join("\n", rows).getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -0,0 +1,59 @@
+package nextstep.subway.utils;
+
+import nextstep.subway.domain.Line;
+import nextstep.subway.domain.Station;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class GridNetwork {
+
+    private static final int MAX_DISTANCE = 10;
+
+    private final Station[][] stations;
+    private final List<Line> lines = new ArrayList<>();
+
+    private GridNetwork(int rows, int columns, long seed) {
+        Random random = new Random(seed);
+        this.stations = new Station[rows][columns];
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                stations[row][column] = Station.of(row + "-" + column);
+            }
+        }
+
+        for (int row = 0; row < rows; row++) {
+            Line line = Line.of("가로" + row, "green", stations[row][0], stations[row][1], distance(random));
+            for (int column = 2; column < columns; column++) {
+                line.addSection(stations[row][column - 1], stations[row][column], distance(random));
+            }
+            lines.add(line);
+        }
+
+        for (int column = 0; column < columns; column++) {
+            Line line = Line.of("세로" + column, "blue", stations[0][column], stations[1][column], distance(random));
+            for (int row = 2; row < rows; row++) {
+                line.addSection(stations[row - 1][column], stations[row][column], distance(random));
+            }
+            lines.add(line);
+        }
+    }
+
+    public static GridNetwork of(int rows, int columns, long seed) {
+        return new GridNetwork(rows, columns, seed);
+    }
+
+    public List<Line> getLines() {
+        return lines;
+    }
+
+    public Station getStation(int row, int column) {
+        return stations[row][column];
+    }
+
+    private int distance(Random random) {
+        return 1 + random.nextInt(MAX_DISTANCE);
+    }
+
+}
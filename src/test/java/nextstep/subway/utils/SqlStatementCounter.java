@@ -0,0 +1,34 @@
+package nextstep.subway.utils;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Hibernate가 실행하려는 SQL을 모아 종류별로 센다.
+ * hibernate.session_factory.statement_inspector에 클래스 이름으로 등록하므로 Hibernate가 직접 만든다.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final List<String> statements = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        statements.add(sql);
+        return sql;
+    }
+
+    public static void clear() {
+        statements.clear();
+    }
+
+    public static long count(String command) {
+        String prefix = command.toLowerCase(Locale.ROOT);
+        return statements.stream()
+                .filter(it -> it.trim().toLowerCase(Locale.ROOT).startsWith(prefix))
+                .count();
+    }
+
+}